@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of {@link Partitioner} that splits a single file into byte ranges of
+ * about the same size, so that the lines of a large file can be read by the partitions of
+ * a partitioned step without splitting the file beforehand. Each range starts at the
+ * beginning of a line, and the file name, start position (inclusive) and end position
+ * (exclusive) of each range are stored in the {@link ExecutionContext} of a partition,
+ * labelled as <code>{partition0, partition1, ..., partitionN}</code>. Ranges are meant to
+ * be read by a step scoped
+ * {@link org.springframework.batch.infrastructure.item.file.FlatFileItemReader}
+ * configured with the start and end positions of its partition.
+ * <p>
+ * Ranges are aligned on line boundaries ({@code \n}, {@code \r} or {@code \r\n}), so
+ * records must not span multiple lines and the file must be encoded with a charset where
+ * line terminators are encoded as in ASCII (like UTF-8). The number of ranges is the grid
+ * size, or less if the file has fewer lines than the grid size. A header line is only
+ * part of the first range, where it can be skipped with the lines to skip of the reader.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+public class FileRangePartitioner implements Partitioner {
+
+	private static final String DEFAULT_KEY_NAME = "fileName";
+
+	private static final String DEFAULT_START_KEY_NAME = "startPosition";
+
+	private static final String DEFAULT_END_KEY_NAME = "endPosition";
+
+	private static final String PARTITION_KEY = "partition";
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private @Nullable Resource resource;
+
+	private String keyName = DEFAULT_KEY_NAME;
+
+	private String startKeyName = DEFAULT_START_KEY_NAME;
+
+	private String endKeyName = DEFAULT_END_KEY_NAME;
+
+	/**
+	 * The file to split in ranges. Must be a file in the file system.
+	 * @param resource the file to split
+	 */
+	public void setResource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * The name of the key for the file name in each {@link ExecutionContext}. Defaults to
+	 * "fileName".
+	 * @param keyName the value of the key
+	 */
+	public void setKeyName(String keyName) {
+		this.keyName = keyName;
+	}
+
+	/**
+	 * The name of the key for the start position of the range in each
+	 * {@link ExecutionContext}. Defaults to "startPosition".
+	 * @param startKeyName the value of the key
+	 */
+	public void setStartKeyName(String startKeyName) {
+		this.startKeyName = startKeyName;
+	}
+
+	/**
+	 * The name of the key for the end position of the range in each
+	 * {@link ExecutionContext}. Defaults to "endPosition".
+	 * @param endKeyName the value of the key
+	 */
+	public void setEndKeyName(String endKeyName) {
+		this.endKeyName = endKeyName;
+	}
+
+	/**
+	 * Split the file in {@code gridSize} ranges aligned on line boundaries.
+	 *
+	 * @see Partitioner#partition(int)
+	 */
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Assert.state(this.resource != null, "A resource is required");
+		Assert.state(this.resource.exists(), "Resource does not exist: " + this.resource);
+		Map<String, ExecutionContext> map = new HashMap<>(gridSize);
+		try (FileChannel channel = FileChannel.open(this.resource.getFile().toPath())) {
+			String fileName = this.resource.getURL().toExternalForm();
+			long size = channel.size();
+			int partitions = Math.max(1, gridSize);
+			long start = 0;
+			for (int i = 1; i <= partitions; i++) {
+				long end = i == partitions ? size : alignToNextLine(channel, size * i / partitions, size);
+				if (end <= start && !(i == partitions && map.isEmpty())) {
+					// no line starts in this range, it is merged with the next one
+					continue;
+				}
+				ExecutionContext context = new ExecutionContext();
+				context.putString(this.keyName, fileName);
+				context.putLong(this.startKeyName, start);
+				context.putLong(this.endKeyName, end);
+				map.put(PARTITION_KEY + map.size(), context);
+				start = end;
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("File could not be split for: " + this.resource, e);
+		}
+		return map;
+	}
+
+	/*
+	 * Return the position of the first line starting at or after the given position.
+	 */
+	private static long alignToNextLine(FileChannel channel, long position, long size) throws IOException {
+		if (position == 0) {
+			return 0;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		// the given position is the start of a line if the previous byte ends a line
+		long offset = position - 1;
+		while (offset < size) {
+			buffer.clear();
+			int read = channel.read(buffer, offset);
+			if (read <= 0) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				byte next = buffer.get(i);
+				if (next == LF) {
+					return offset + i + 1;
+				}
+				if (next == CR) {
+					long lineStart = offset + i + 1;
+					boolean crlf = i + 1 < read ? buffer.get(i + 1) == LF : isLineFeed(channel, lineStart, size);
+					return crlf ? lineStart + 1 : lineStart;
+				}
+			}
+			offset += read;
+		}
+		return size;
+	}
+
+	private static boolean isLineFeed(FileChannel channel, long position, long size) throws IOException {
+		if (position >= size) {
+			return false;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(1);
+		return channel.read(buffer, position) == 1 && buffer.get(0) == LF;
+	}
+
+}
@@ -16,9 +16,11 @@
 
 package org.springframework.batch.core.partition.support;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -128,7 +130,8 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 		JobExecution jobExecution = stepExecution.getJobExecution();
 
 		Map<String, ExecutionContext> contexts = getContexts(stepExecution, gridSize);
-		Set<StepExecution> set = new HashSet<>(contexts.size());
+		List<String> stepNames = new ArrayList<>(contexts.size());
+		List<ExecutionContext> executionContexts = new ArrayList<>(contexts.size());
 
 		for (Entry<String, ExecutionContext> context : contexts.entrySet()) {
 
@@ -137,26 +140,23 @@ public class SimpleStepExecutionSplitter implements StepExecutionSplitter {
 			StepExecution lastStepExecution = jobRepository.getLastStepExecution(jobExecution.getJobInstance(),
 					stepName);
 			if (lastStepExecution == null) { // fresh start
-				StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-				currentStepExecution.setExecutionContext(context.getValue());
-				jobRepository.updateExecutionContext(currentStepExecution);
-				set.add(currentStepExecution);
+				stepNames.add(stepName);
+				executionContexts.add(context.getValue());
 			}
 			else { // restart
 				if (lastStepExecution.getStatus() != BatchStatus.COMPLETED
 						&& shouldStart(allowStartIfComplete, stepExecution, lastStepExecution)) {
-					StepExecution currentStepExecution = jobRepository.createStepExecution(stepName, jobExecution);
-					currentStepExecution.setExecutionContext(lastStepExecution.getExecutionContext());
-					jobRepository.updateExecutionContext(currentStepExecution);
-					set.add(currentStepExecution);
+					stepNames.add(stepName);
+					executionContexts.add(lastStepExecution.getExecutionContext());
 				}
 			}
 		}
 
-		Set<StepExecution> executions = new HashSet<>(set.size());
-		executions.addAll(set);
+		// create all worker step executions at once
+		List<StepExecution> stepExecutions = jobRepository.createStepExecutions(jobExecution, stepNames,
+				executionContexts);
 
-		return executions;
+		return new HashSet<>(stepExecutions);
 
 	}
 
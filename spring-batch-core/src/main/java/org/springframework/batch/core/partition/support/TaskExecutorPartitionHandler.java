@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
 
 import org.jspecify.annotations.NullUnmarked;
 
@@ -55,6 +56,8 @@ public class TaskExecutorPartitionHandler extends AbstractPartitionHandler imple
 
 	private Step step;
 
+	private int concurrencyLimit = 0;
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(step != null, "A Step must be provided.");
@@ -69,6 +72,22 @@ public class TaskExecutorPartitionHandler extends AbstractPartitionHandler imple
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Set the maximum number of partitions executed at the same time. Once the limit is
+	 * reached, the next partition is only handed to the task executor when a running
+	 * partition completes. This is typically used with a task executor that creates a new
+	 * (virtual) thread for each partition, in which case the limit should not exceed the
+	 * size of the connection pool of the data source used by the partitions. Defaults to
+	 * {@code 0}, i.e. all partitions are handed to the task executor at once.
+	 * @param concurrencyLimit the maximum number of concurrent partitions, {@code 0} for
+	 * no limit
+	 * @since 6.0.2
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit >= 0, "Concurrency limit must not be negative");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
 	/**
 	 * Setter for the {@link Step} that will be used to execute the partitioned
 	 * {@link StepExecution}. This is a regular Spring Batch step, with all the business
@@ -96,15 +115,34 @@ public class TaskExecutorPartitionHandler extends AbstractPartitionHandler imple
 		Assert.notNull(step, "A Step must be provided.");
 		final Set<Future<StepExecution>> tasks = new HashSet<>(getGridSize());
 		final Set<StepExecution> result = new HashSet<>();
+		final Semaphore runningPartitions = this.concurrencyLimit > 0 ? new Semaphore(this.concurrencyLimit) : null;
 
 		for (StepExecution stepExecution : partitionStepExecutions) {
 			final FutureTask<StepExecution> task = createTask(step, stepExecution);
 
 			try {
-				taskExecutor.execute(task);
+				if (runningPartitions != null) {
+					// wait for a running partition to complete before starting another
+					// one
+					runningPartitions.acquire();
+					taskExecutor.execute(() -> {
+						try {
+							task.run();
+						}
+						finally {
+							runningPartitions.release();
+						}
+					});
+				}
+				else {
+					taskExecutor.execute(task);
+				}
 				tasks.add(task);
 			}
 			catch (TaskRejectedException e) {
+				if (runningPartitions != null) {
+					runningPartitions.release();
+				}
 				// couldn't execute one of the tasks
 				ExitStatus exitStatus = ExitStatus.FAILED
 					.addExitDescription("TaskExecutor rejected the task for this step.");
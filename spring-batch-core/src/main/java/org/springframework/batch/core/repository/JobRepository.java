@@ -25,7 +25,9 @@ import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.explore.JobExplorer;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -341,6 +343,34 @@ public interface JobRepository extends JobExplorer {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create {@link StepExecution}s for a given {@link JobExecution}, one for each of the
+	 * given step names, and persist them along with the given {@link ExecutionContext}s.
+	 * The returned step executions should be associated with the {@link JobExecution}.
+	 * This is typically used to create the worker step executions of a partitioned step.
+	 * The default implementation creates step executions one at a time.
+	 * @param jobExecution the job execution to which the step executions belong
+	 * @param stepNames the names of the steps
+	 * @param executionContexts the execution contexts of the step executions, in the same
+	 * order as the step names
+	 * @return valid {@link StepExecution}s for the arguments provided, in the same order
+	 * as the step names
+	 * @since 6.0.2
+	 */
+	default List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames,
+			List<ExecutionContext> executionContexts) {
+		Assert.isTrue(stepNames.size() == executionContexts.size(),
+				"There must be as many execution contexts as step names");
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		for (int i = 0; i < stepNames.size(); i++) {
+			StepExecution stepExecution = createStepExecution(stepNames.get(i), jobExecution);
+			stepExecution.setExecutionContext(executionContexts.get(i));
+			updateExecutionContext(stepExecution);
+			stepExecutions.add(stepExecution);
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the {@link StepExecution} (but not its {@link ExecutionContext}).
 	 * <p>
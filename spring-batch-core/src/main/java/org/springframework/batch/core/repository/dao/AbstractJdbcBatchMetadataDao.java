@@ -17,6 +17,7 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.sql.Types;
+import java.util.Collections;
 
 import org.jspecify.annotations.Nullable;
 
@@ -53,6 +54,13 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 
 	public static final int DEFAULT_SHORT_CONTEXT_LENGTH = 2500;
 
+	/**
+	 * Maximum number of values bound to a single {@code IN} clause. Kept well below the
+	 * limit of the most restrictive supported database (1000 for Oracle).
+	 * @since 6.0.2
+	 */
+	protected static final int MAX_IN_CLAUSE_SIZE = 500;
+
 	private String tablePrefix = DEFAULT_TABLE_PREFIX;
 
 	private int clobTypeToUse = Types.CLOB;
@@ -65,6 +73,20 @@ public abstract class AbstractJdbcBatchMetadataDao implements InitializingBean {
 		return StringUtils.replace(base, "%PREFIX%", tablePrefix);
 	}
 
+	/**
+	 * Same as {@link #getQuery(String)}, additionally replacing the {@code %IDS%}
+	 * placeholder with the given number of bind parameters, to be used in an {@code IN}
+	 * clause.
+	 * @param base the query with the {@code %PREFIX%} and {@code %IDS%} placeholders
+	 * @param parameterCount the number of bind parameters of the {@code IN} clause
+	 * @return the query to execute
+	 * @since 6.0.2
+	 */
+	protected String getQuery(String base, int parameterCount) {
+		String parameters = String.join(", ", Collections.nCopies(parameterCount, "?"));
+		return getQuery(StringUtils.replace(base, "%IDS%", parameters));
+	}
+
 	protected String getTablePrefix() {
 		return tablePrefix;
 	}
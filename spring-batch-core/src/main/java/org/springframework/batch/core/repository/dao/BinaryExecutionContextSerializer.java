@@ -0,0 +1,413 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ExecutionContextSerializer} that writes the execution context in a compact,
+ * type-tagged binary format. Values of type {@link String}, {@link Integer},
+ * {@link Long}, {@link Double}, {@link Boolean}, {@link HashMap}, {@link LinkedHashMap}
+ * and {@link ArrayList} (which cover the state saved by the item streams provided by
+ * Spring Batch) are written directly, with variable-length encoding for numbers and
+ * sizes. Any other {@link Serializable} value is written with Java serialization.
+ * <p>
+ * The binary content is Base64 encoded in a single pass, so that it can be stored in the
+ * character columns of the JDBC job repository. The content starts with a header holding
+ * a format version, so that the format can evolve while keeping previously written
+ * contexts readable. Contexts that were written by the
+ * {@link DefaultExecutionContextSerializer} are detected and deserialized with it, so
+ * this serializer can be used with an existing job repository.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+public class BinaryExecutionContextSerializer implements ExecutionContextSerializer {
+
+	private static final byte MAGIC_0 = 'S';
+
+	private static final byte MAGIC_1 = 'B';
+
+	private static final byte VERSION_1 = 1;
+
+	/** Number of Base64 characters encoding the 3 bytes of the header. */
+	private static final int ENCODED_HEADER_LENGTH = 4;
+
+	private static final byte NULL = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte DOUBLE = 4;
+
+	private static final byte TRUE = 5;
+
+	private static final byte FALSE = 6;
+
+	private static final byte HASH_MAP = 7;
+
+	private static final byte LINKED_HASH_MAP = 8;
+
+	private static final byte ARRAY_LIST = 9;
+
+	private static final byte SERIALIZED = 10;
+
+	private final DefaultExecutionContextSerializer legacySerializer = new DefaultExecutionContextSerializer();
+
+	/**
+	 * Serializes an execution context to the provided {@link OutputStream}. The stream is
+	 * not closed prior to its return.
+	 * @param context {@link Map} contents of the {@code ExecutionContext}.
+	 * @param out {@link OutputStream} where the serialized context information will be
+	 * written.
+	 */
+	@Override
+	public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+		Assert.notNull(context, "context is required");
+		Assert.notNull(out, "OutputStream is required");
+
+		for (Object value : context.values()) {
+			Assert.notNull(value, "A null value was found");
+			if (!(value instanceof Serializable)) {
+				throw new IllegalArgumentException(
+						"Value: [" + value + "] must be serializable. " + "Object of class: ["
+								+ value.getClass().getName() + "] must be an instance of " + Serializable.class);
+			}
+		}
+		Output output = new Output();
+		output.writeByte(MAGIC_0);
+		output.writeByte(MAGIC_1);
+		output.writeByte(VERSION_1);
+		output.writeVarLong(context.size());
+		for (Map.Entry<String, Object> entry : context.entrySet()) {
+			output.writeString(entry.getKey());
+			writeValue(output, entry.getValue());
+		}
+		ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(output.buffer, 0, output.count));
+		out.write(encoded.array(), encoded.arrayOffset(), encoded.remaining());
+	}
+
+	/**
+	 * Deserializes an execution context from the provided {@link InputStream}.
+	 * @param inputStream {@link InputStream} containing the information to be
+	 * deserialized.
+	 * @return the execution context serialized in the provided {@link InputStream}
+	 */
+	@Override
+	public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+		byte[] content = inputStream.readAllBytes();
+		if (!isBinaryContext(content)) {
+			return this.legacySerializer.deserialize(new ByteArrayInputStream(content));
+		}
+		Input input = new Input(Base64.getDecoder().decode(content));
+		input.position = 3;
+		int size = input.readSize();
+		Map<String, Object> context = new HashMap<>(capacity(size));
+		for (int i = 0; i < size; i++) {
+			String key = input.readString();
+			Object value = readValue(input);
+			Assert.state(value != null, "A null value was found");
+			context.put(key, value);
+		}
+		return context;
+	}
+
+	private static boolean isBinaryContext(byte[] content) {
+		if (content.length < ENCODED_HEADER_LENGTH) {
+			return false;
+		}
+		byte[] header;
+		try {
+			header = Base64.getDecoder().decode(Arrays.copyOf(content, ENCODED_HEADER_LENGTH));
+		}
+		catch (IllegalArgumentException ex) {
+			return false;
+		}
+		return header.length == 3 && header[0] == MAGIC_0 && header[1] == MAGIC_1 && header[2] == VERSION_1;
+	}
+
+	private void writeValue(Output output, @Nullable Object value) throws IOException {
+		if (value == null) {
+			output.writeByte(NULL);
+		}
+		else if (value instanceof String string) {
+			output.writeByte(STRING);
+			output.writeString(string);
+		}
+		else if (value instanceof Integer integer) {
+			output.writeByte(INTEGER);
+			output.writeVarLong(zigZag(integer));
+		}
+		else if (value instanceof Long longValue) {
+			output.writeByte(LONG);
+			output.writeVarLong(zigZag(longValue));
+		}
+		else if (value instanceof Double doubleValue) {
+			output.writeByte(DOUBLE);
+			output.writeLong(Double.doubleToLongBits(doubleValue));
+		}
+		else if (value instanceof Boolean booleanValue) {
+			output.writeByte(booleanValue ? TRUE : FALSE);
+		}
+		else if (value.getClass() == HashMap.class || value.getClass() == LinkedHashMap.class) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			output.writeByte(value.getClass() == HashMap.class ? HASH_MAP : LINKED_HASH_MAP);
+			output.writeVarLong(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				writeValue(output, entry.getKey());
+				writeValue(output, entry.getValue());
+			}
+		}
+		else if (value.getClass() == ArrayList.class) {
+			List<?> list = (List<?>) value;
+			output.writeByte(ARRAY_LIST);
+			output.writeVarLong(list.size());
+			for (Object element : list) {
+				writeValue(output, element);
+			}
+		}
+		else {
+			output.writeByte(SERIALIZED);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+				objectOutputStream.writeObject(value);
+			}
+			output.writeVarLong(bytes.size());
+			output.writeBytes(bytes.toByteArray());
+		}
+	}
+
+	private @Nullable Object readValue(Input input) throws IOException {
+		byte tag = input.readByte();
+		switch (tag) {
+			case NULL:
+				return null;
+			case STRING:
+				return input.readString();
+			case INTEGER:
+				return (int) unZigZag(input.readVarLong());
+			case LONG:
+				return unZigZag(input.readVarLong());
+			case DOUBLE:
+				return Double.longBitsToDouble(input.readLong());
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case HASH_MAP:
+			case LINKED_HASH_MAP: {
+				int size = input.readSize();
+				Map<@Nullable Object, @Nullable Object> map = tag == HASH_MAP ? new HashMap<>(capacity(size))
+						: new LinkedHashMap<>(capacity(size));
+				for (int i = 0; i < size; i++) {
+					Object key = readValue(input);
+					map.put(key, readValue(input));
+				}
+				return map;
+			}
+			case ARRAY_LIST: {
+				int size = input.readSize();
+				List<@Nullable Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readValue(input));
+				}
+				return list;
+			}
+			case SERIALIZED: {
+				int length = input.readSize();
+				ByteArrayInputStream bytes = new ByteArrayInputStream(input.buffer, input.skip(length), length);
+				try (ObjectInputStream objectInputStream = new ObjectInputStream(bytes)) {
+					return objectInputStream.readObject();
+				}
+				catch (ClassNotFoundException ex) {
+					throw new IllegalStateException("Failed to deserialize object type", ex);
+				}
+			}
+			default:
+				throw new IllegalArgumentException("Failed to deserialize object: unknown type tag " + tag);
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static int capacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+
+	/**
+	 * Growable byte buffer the binary content is written to before being encoded.
+	 */
+	private static final class Output {
+
+		private byte[] buffer = new byte[256];
+
+		private int count;
+
+		void writeByte(int b) {
+			ensureCapacity(1);
+			this.buffer[this.count++] = (byte) b;
+		}
+
+		void writeBytes(byte[] bytes) {
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.count, bytes.length);
+			this.count += bytes.length;
+		}
+
+		void writeLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				this.buffer[this.count++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.count++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.buffer[this.count++] = (byte) value;
+		}
+
+		void writeString(String string) {
+			int length = string.length();
+			// fast path for ASCII strings, which is the common case for keys
+			ensureCapacity(length + 5);
+			int start = this.count;
+			writeVarLong(length);
+			for (int i = 0; i < length; i++) {
+				char c = string.charAt(i);
+				if (c >= 0x80) {
+					this.count = start;
+					byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+					writeVarLong(bytes.length);
+					writeBytes(bytes);
+					return;
+				}
+				this.buffer[this.count++] = (byte) c;
+			}
+		}
+
+		private void ensureCapacity(int length) {
+			if (this.count + length > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.count + length));
+			}
+		}
+
+	}
+
+	/**
+	 * Cursor over the decoded binary content.
+	 */
+	private static final class Input {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+			checkAvailable(1);
+			return this.buffer[this.position++];
+		}
+
+		long readLong() {
+			checkAvailable(8);
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (this.buffer[this.position++] & 0xFF);
+			}
+			return value;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Failed to deserialize object: malformed variable-length number");
+		}
+
+		int readSize() {
+			long size = readVarLong();
+			if (size < 0 || size > this.buffer.length - this.position) {
+				throw new IllegalArgumentException("Failed to deserialize object: invalid size " + size);
+			}
+			return (int) size;
+		}
+
+		String readString() {
+			int length = readSize();
+			return new String(this.buffer, skip(length), length, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Skip the given number of bytes and return the position of the first one.
+		 */
+		int skip(int length) {
+			checkAvailable(length);
+			int start = this.position;
+			this.position += length;
+			return start;
+		}
+
+		private void checkAvailable(int length) {
+			if (this.position + length > this.buffer.length) {
+				throw new IllegalArgumentException("Failed to deserialize object: unexpected end of content");
+			}
+		}
+
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.batch.core.repository.dao;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
@@ -43,6 +45,36 @@ public interface ExecutionContextDao {
 	 */
 	ExecutionContext getExecutionContext(StepExecution stepExecution);
 
+	/**
+	 * Retrieve the execution contexts of the given job executions. Implementations are
+	 * encouraged to load all contexts in a constant number of queries.
+	 * @param jobExecutions {@link JobExecution}s that contain the contexts.
+	 * @return execution contexts keyed by job execution id
+	 * @since 6.0.2
+	 */
+	default Map<Long, ExecutionContext> getJobExecutionContexts(Collection<JobExecution> jobExecutions) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (JobExecution jobExecution : jobExecutions) {
+			executionContexts.put(jobExecution.getId(), getExecutionContext(jobExecution));
+		}
+		return executionContexts;
+	}
+
+	/**
+	 * Retrieve the execution contexts of the given step executions. Implementations are
+	 * encouraged to load all contexts in a constant number of queries.
+	 * @param stepExecutions {@link StepExecution}s that contain the contexts.
+	 * @return execution contexts keyed by step execution id
+	 * @since 6.0.2
+	 */
+	default Map<Long, ExecutionContext> getStepExecutionContexts(Collection<StepExecution> stepExecutions) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (StepExecution stepExecution : stepExecutions) {
+			executionContexts.put(stepExecution.getId(), getExecutionContext(stepExecution));
+		}
+		return executionContexts;
+	}
+
 	/**
 	 * Persist the execution context associated with the given jobExecution, persistent
 	 * entry for the context should not exist yet.
@@ -16,6 +16,8 @@
 
 package org.springframework.batch.core.repository.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,6 +25,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.step.StepExecution;
 import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
 
 public interface StepExecutionDao {
 
@@ -39,6 +42,24 @@ public interface StepExecutionDao {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Create new step executions with assigned ids, one for each of the given step names,
+	 * in the given order. Like {@link #createStepExecution(String, JobExecution)}, this
+	 * method should not add the step executions to the job execution. The default
+	 * implementation creates step executions one at a time.
+	 * @param jobExecution the job execution the step executions belong to
+	 * @param stepNames the names of the steps
+	 * @return new {@link StepExecution} instances with assigned ids
+	 * @since 6.0.2
+	 */
+	default List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		for (String stepName : stepNames) {
+			stepExecutions.add(createStepExecution(stepName, jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Update the given StepExecution
 	 * <p>
@@ -47,6 +68,37 @@ public interface StepExecutionDao {
 	 */
 	void updateStepExecution(StepExecution stepExecution);
 
+	/**
+	 * Update the given {@link StepExecution} unless its parent {@link JobExecution} has
+	 * been stopped in the meantime. This is meant to be called at chunk boundaries as a
+	 * lightweight alternative to loading the latest state of the step execution (and its
+	 * job execution) before calling {@link #updateStepExecution(StepExecution)}.
+	 * <p>
+	 * If the parent job execution has been stopped, the step execution is not updated,
+	 * but its version is synchronized with the persisted one so that a subsequent call to
+	 * {@link #updateStepExecution(StepExecution)} succeeds.
+	 * <p>
+	 * Preconditions: Id must not be null.
+	 * @param stepExecution {@link StepExecution} instance to be updated.
+	 * @return {@code true} if the step execution was updated, {@code false} if the parent
+	 * job execution has been stopped
+	 * @since 6.0.2
+	 */
+	default boolean updateStepExecutionIfJobNotStopped(StepExecution stepExecution) {
+		StepExecution latestStepExecution = getStepExecution(stepExecution.getId());
+		Assert.state(latestStepExecution != null, "StepExecution with id " + stepExecution.getId()
+				+ " not found. Batch metadata state may be corrupted.");
+		if (latestStepExecution.getJobExecution().isStopped()) {
+			Integer version = latestStepExecution.getVersion();
+			if (version != null) {
+				stepExecution.setVersion(version);
+			}
+			return false;
+		}
+		updateStepExecution(stepExecution);
+		return true;
+	}
+
 	/**
 	 * Retrieve a {@link StepExecution} from its id. The execution context will not be
 	 * loaded. If you need the execution context, use the job repository which coordinates
@@ -91,6 +143,23 @@ public interface StepExecutionDao {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Retrieve all {@link StepExecution}s of the given {@link JobExecution}s. Each step
+	 * execution is attached to its job execution, but is not added to it. The execution
+	 * context will not be loaded. Implementations are encouraged to load the step
+	 * executions of all job executions in a constant number of queries.
+	 * @param jobExecutions the parent {@link JobExecution}s
+	 * @return a list of {@link StepExecution}s
+	 * @since 6.0.2
+	 */
+	default List<StepExecution> getStepExecutions(Collection<JobExecution> jobExecutions) {
+		List<StepExecution> stepExecutions = new ArrayList<>();
+		for (JobExecution jobExecution : jobExecutions) {
+			stepExecutions.addAll(getStepExecutions(jobExecution));
+		}
+		return stepExecutions;
+	}
+
 	/**
 	 * Counts all the {@link StepExecution} for a given step name.
 	 * @param jobInstance the parent {@link JobInstance}
@@ -26,10 +26,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -43,7 +45,10 @@ import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.core.serializer.Serializer;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -67,6 +72,12 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_JOB_EXECUTION_CONTEXTS = """
+			SELECT JOB_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%JOB_EXECUTION_CONTEXT
+			WHERE JOB_EXECUTION_ID IN (%IDS%)
+			""";
+
 	private static final String INSERT_JOB_EXECUTION_CONTEXT = """
 			INSERT INTO %PREFIX%JOB_EXECUTION_CONTEXT (SHORT_CONTEXT, SERIALIZED_CONTEXT, JOB_EXECUTION_ID)
 				VALUES(?, ?, ?)
@@ -84,6 +95,12 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 			WHERE STEP_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_STEP_EXECUTION_CONTEXTS = """
+			SELECT STEP_EXECUTION_ID, SHORT_CONTEXT, SERIALIZED_CONTEXT
+			FROM %PREFIX%STEP_EXECUTION_CONTEXT
+			WHERE STEP_EXECUTION_ID IN (%IDS%)
+			""";
+
 	private static final String INSERT_STEP_EXECUTION_CONTEXT = """
 			INSERT INTO %PREFIX%STEP_EXECUTION_CONTEXT (SHORT_CONTEXT, SERIALIZED_CONTEXT, STEP_EXECUTION_ID)
 				VALUES(?, ?, ?)
@@ -109,11 +126,20 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	private static final int DEFAULT_MAX_VARCHAR_LENGTH = 2500;
 
+	private static final int LOCK_STRIPES = 64;
+
 	private int shortContextLength = DEFAULT_MAX_VARCHAR_LENGTH;
 
 	private ExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
 
-	private final Lock lock = new ReentrantLock();
+	/**
+	 * Locks guarding concurrent updates of the same step execution context. A step
+	 * execution is mapped to a stripe by its id, so that updates of different step
+	 * executions (for instance, local partitions) do not wait on each other.
+	 */
+	private final Lock[] locks = createLocks();
+
+	private boolean updateDirtyContextsOnly = false;
 
 	/**
 	 * Setter for {@link Serializer} implementation
@@ -148,6 +174,23 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		this.charset = charset;
 	}
 
+	/**
+	 * Set whether updates of execution contexts that did not change since they were last
+	 * written should be skipped. When enabled, the dirty flag of an execution context is
+	 * cleared each time the context is written, and
+	 * {@link #updateExecutionContext(JobExecution)} and
+	 * {@link #updateExecutionContext(StepExecution)} do not issue any statement for a
+	 * context that is not {@link ExecutionContext#isDirty() dirty}. Since the execution
+	 * context is stored as a single serialized value, a dirty context is always written
+	 * as a whole. If the write takes part in a transaction that is rolled back, the
+	 * context is marked dirty again. Defaults to {@code false}.
+	 * @param updateDirtyContextsOnly {@code true} to skip updates of clean contexts
+	 * @since 6.0.2
+	 */
+	public void setUpdateDirtyContextsOnly(boolean updateDirtyContextsOnly) {
+		this.updateDirtyContextsOnly = updateDirtyContextsOnly;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		Long executionId = jobExecution.getId();
@@ -178,12 +221,42 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		}
 	}
 
+	@Override
+	public Map<Long, ExecutionContext> getJobExecutionContexts(Collection<JobExecution> jobExecutions) {
+		List<Long> executionIds = jobExecutions.stream().map(JobExecution::getId).distinct().toList();
+		return getExecutionContexts(executionIds, FIND_JOB_EXECUTION_CONTEXTS, "JOB_EXECUTION_ID");
+	}
+
+	@Override
+	public Map<Long, ExecutionContext> getStepExecutionContexts(Collection<StepExecution> stepExecutions) {
+		List<Long> executionIds = stepExecutions.stream().map(StepExecution::getId).distinct().toList();
+		return getExecutionContexts(executionIds, FIND_STEP_EXECUTION_CONTEXTS, "STEP_EXECUTION_ID");
+	}
+
+	private Map<Long, ExecutionContext> getExecutionContexts(List<Long> executionIds, String sql,
+			String executionIdColumn) {
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>(executionIds.size());
+		ExecutionContextRowMapper rowMapper = new ExecutionContextRowMapper();
+		for (int i = 0; i < executionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> ids = executionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, executionIds.size()));
+			getJdbcTemplate().query(getQuery(sql, ids.size()), (RowCallbackHandler) rs -> executionContexts
+				.put(rs.getLong(executionIdColumn), rowMapper.mapRow(rs, 0)), ids.toArray());
+		}
+		for (Long executionId : executionIds) {
+			executionContexts.computeIfAbsent(executionId, id -> new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
 		Long executionId = jobExecution.getId();
 		ExecutionContext executionContext = jobExecution.getExecutionContext();
 		Assert.notNull(executionId, "ExecutionId must not be null.");
 		Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+		if (isClean(executionContext)) {
+			return;
+		}
 
 		String serializedContext = serializeContext(executionContext);
 
@@ -192,21 +265,25 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 
 	@Override
 	public void updateExecutionContext(StepExecution stepExecution) {
+		Long executionId = stepExecution.getId();
+		Assert.notNull(executionId, "ExecutionId must not be null.");
 		// Attempt to prevent concurrent modification errors by blocking here if
-		// someone is already trying to do it.
-		this.lock.lock();
+		// someone is already trying to update the same context.
+		Lock lock = getLock(executionId);
+		lock.lock();
 		try {
-			Long executionId = stepExecution.getId();
 			ExecutionContext executionContext = stepExecution.getExecutionContext();
-			Assert.notNull(executionId, "ExecutionId must not be null.");
 			Assert.notNull(executionContext, "The ExecutionContext must not be null.");
+			if (isClean(executionContext)) {
+				return;
+			}
 
 			String serializedContext = serializeContext(executionContext);
 
 			persistSerializedContext(executionId, serializedContext, UPDATE_STEP_EXECUTION_CONTEXT);
 		}
 		finally {
-			this.lock.unlock();
+			lock.unlock();
 		}
 	}
 
@@ -348,7 +425,28 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		}
 	}
 
+	private static Lock[] createLocks() {
+		Lock[] locks = new Lock[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		return locks;
+	}
+
+	private Lock getLock(long executionId) {
+		int hash = Long.hashCode(executionId);
+		return this.locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+	}
+
+	private boolean isClean(ExecutionContext ctx) {
+		return this.updateDirtyContextsOnly && !ctx.isDirty();
+	}
+
 	private String serializeContext(ExecutionContext ctx) {
+		if (this.updateDirtyContextsOnly) {
+			// cleared before taking the snapshot so that concurrent changes are not lost
+			clearDirtyFlag(ctx);
+		}
 		Map<String, Object> m = new HashMap<>();
 		for (Entry<String, Object> me : ctx.entrySet()) {
 			m.put(me.getKey(), me.getValue());
@@ -368,6 +466,26 @@ public class JdbcExecutionContextDao extends AbstractJdbcBatchMetadataDao implem
 		return results;
 	}
 
+	/*
+	 * Clear the dirty flag of a context that is about to be written. If the write takes
+	 * part in a transaction, the context is marked dirty again when that transaction does
+	 * not commit, so that the next update does not skip it.
+	 */
+	private static void clearDirtyFlag(ExecutionContext executionContext) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			Set<String> dirtyKeys = new HashSet<>(executionContext.getDirtyKeys());
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						executionContext.markDirty(dirtyKeys);
+					}
+				}
+			});
+		}
+		executionContext.clearDirtyFlag();
+	}
+
 	private class ExecutionContextRowMapper implements RowMapper<ExecutionContext> {
 
 		@Override
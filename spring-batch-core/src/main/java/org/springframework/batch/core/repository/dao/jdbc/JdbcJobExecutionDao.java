@@ -17,16 +17,18 @@
 package org.springframework.batch.core.repository.dao.jdbc;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,9 +41,9 @@ import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
@@ -104,12 +106,20 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 
 	private static final String GET_EXECUTION_BY_ID = GET_JOB_EXECUTIONS + " WHERE JOB_EXECUTION_ID = ?";
 
-	private static final String GET_RUNNING_EXECUTION_FOR_INSTANCE = """
-			SELECT E.JOB_EXECUTION_ID
+	private static final String GET_JOB_EXECUTIONS_WITH_INSTANCE = """
+			SELECT E.JOB_EXECUTION_ID, E.START_TIME, E.END_TIME, E.STATUS, E.EXIT_CODE, E.EXIT_MESSAGE, E.CREATE_TIME, E.LAST_UPDATED, E.VERSION, I.JOB_INSTANCE_ID, I.JOB_NAME
 			FROM %PREFIX%JOB_EXECUTION E, %PREFIX%JOB_INSTANCE I
-			WHERE E.JOB_INSTANCE_ID=I.JOB_INSTANCE_ID AND I.JOB_NAME=? AND E.STATUS IN ('STARTING', 'STARTED', 'STOPPING')
 			""";
 
+	private static final String GET_EXECUTION_WITH_INSTANCE_BY_ID = GET_JOB_EXECUTIONS_WITH_INSTANCE
+			+ " WHERE E.JOB_INSTANCE_ID=I.JOB_INSTANCE_ID AND E.JOB_EXECUTION_ID = ?";
+
+	private static final String GET_RUNNING_EXECUTION_FOR_INSTANCE = GET_JOB_EXECUTIONS_WITH_INSTANCE
+			+ " WHERE E.JOB_INSTANCE_ID=I.JOB_INSTANCE_ID AND I.JOB_NAME=? AND E.STATUS IN ('STARTING', 'STARTED', 'STOPPING')";
+
+	private static final String GET_EXECUTIONS_BY_INSTANCE_ID = GET_JOB_EXECUTIONS
+			+ " WHERE JOB_INSTANCE_ID = ? ORDER BY JOB_EXECUTION_ID DESC";
+
 	private static final String CURRENT_VERSION_JOB_EXECUTION = """
 			SELECT VERSION
 			FROM %PREFIX%JOB_EXECUTION
@@ -122,6 +132,12 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
+	private static final String FIND_PARAMS_FROM_IDS = """
+			SELECT JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING
+			FROM %PREFIX%JOB_EXECUTION_PARAMS
+			WHERE JOB_EXECUTION_ID IN (%IDS%)
+			""";
+
 	private static final String CREATE_JOB_PARAMETERS = """
 			INSERT INTO %PREFIX%JOB_EXECUTION_PARAMS(JOB_EXECUTION_ID, PARAMETER_NAME, PARAMETER_TYPE, PARAMETER_VALUE, IDENTIFYING)
 				VALUES (?, ?, ?, ?, ?)
@@ -137,17 +153,6 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 			WHERE JOB_EXECUTION_ID = ?
 			""";
 
-	private static final String GET_JOB_INSTANCE_ID_FROM_JOB_EXECUTION_ID = """
-			SELECT JI.JOB_INSTANCE_ID
-			FROM %PREFIX%JOB_INSTANCE JI, %PREFIX%JOB_EXECUTION JE
-			WHERE JOB_EXECUTION_ID = ? AND JI.JOB_INSTANCE_ID = JE.JOB_INSTANCE_ID
-			""";
-
-	private static final String GET_JOB_EXECUTION_IDS_BY_INSTANCE_ID = """
-			SELECT JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION WHERE JOB_INSTANCE_ID = ?
-			ORDER BY JOB_EXECUTION_ID DESC
-			""";
-
 	JdbcJobInstanceDao jobInstanceDao;
 
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
@@ -218,14 +223,9 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 
 		Assert.notNull(jobInstance, "Job instance cannot be null.");
 		long jobInstanceId = jobInstance.getId();
-		// TODO optimize to a single query with a join if possible
-		List<Long> jobExecutionIdsSortedBackwardByCreationOrder = getJdbcTemplate()
-			.queryForList(getQuery(GET_JOB_EXECUTION_IDS_BY_INSTANCE_ID), Long.class, jobInstanceId);
-		List<JobExecution> jobExecutions = new ArrayList<>(jobExecutionIdsSortedBackwardByCreationOrder.size());
-		for (Long jobExecutionId : jobExecutionIdsSortedBackwardByCreationOrder) {
-			jobExecutions.add(getJobExecution(jobExecutionId));
-		}
-		return jobExecutions;
+		List<JobExecution> jobExecutions = getJdbcTemplate().query(getQuery(GET_EXECUTIONS_BY_INSTANCE_ID),
+				new JobExecutionRowMapper(jobInstance, new JobParameters()), jobInstanceId);
+		return withJobParameters(jobExecutions);
 	}
 
 	/**
@@ -322,29 +322,16 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 
 	@Override
 	public JobExecution getJobExecution(long jobExecutionId) {
-		long jobInstanceId = getJobInstanceId(jobExecutionId);
-		JobInstance jobInstance = jobInstanceDao.getJobInstance(jobInstanceId);
-		JobParameters jobParameters = getJobParameters(jobExecutionId);
-		try {
-			return getJdbcTemplate().queryForObject(getQuery(GET_EXECUTION_BY_ID),
-					new JobExecutionRowMapper(jobInstance, jobParameters), jobExecutionId);
-		}
-		catch (EmptyResultDataAccessException e) {
-			return null;
-		}
-	}
-
-	private long getJobInstanceId(long jobExecutionId) {
-		return getJdbcTemplate().queryForObject(getQuery(GET_JOB_INSTANCE_ID_FROM_JOB_EXECUTION_ID), Long.class,
-				jobExecutionId);
+		List<JobExecution> jobExecutions = getJdbcTemplate().query(getQuery(GET_EXECUTION_WITH_INSTANCE_BY_ID),
+				new JobExecutionWithInstanceRowMapper(), jobExecutionId);
+		return jobExecutions.isEmpty() ? null : withJobParameters(jobExecutions).get(0);
 	}
 
 	@Override
 	public Set<JobExecution> findRunningJobExecutions(String jobName) {
-		return getJdbcTemplate().queryForList(getQuery(GET_RUNNING_EXECUTION_FOR_INSTANCE), Long.class, jobName)
-			.stream()
-			.map(this::getJobExecution)
-			.collect(Collectors.toSet());
+		List<JobExecution> jobExecutions = getJdbcTemplate().query(getQuery(GET_RUNNING_EXECUTION_FOR_INSTANCE),
+				new JobExecutionWithInstanceRowMapper(), jobName);
+		return new HashSet<>(withJobParameters(jobExecutions));
 	}
 
 	@Override
@@ -424,10 +411,58 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 	 * @param executionId {@link Long} containing the id for the execution.
 	 * @return job parameters for the requested execution id
 	 */
-	@SuppressWarnings(value = { "unchecked", "rawtypes" })
 	public JobParameters getJobParameters(Long executionId) {
-		final Set<JobParameter<?>> jobParameters = new HashSet<>();
+		JobParameters jobParameters = getJobParameters(getQuery(FIND_PARAMS_FROM_ID), executionId).get(executionId);
+		return jobParameters != null ? jobParameters : new JobParameters();
+	}
+
+	/**
+	 * Load the parameters of the given job executions, which are mapped without them. The
+	 * parameters are queried for the ids of the given executions only, after the
+	 * executions themselves, so that an execution created between the two queries is not
+	 * returned without its parameters.
+	 * @param jobExecutions job executions mapped with empty parameters
+	 * @return the job executions with their parameters, in the same order
+	 */
+	private List<JobExecution> withJobParameters(List<JobExecution> jobExecutions) {
+		List<Long> executionIds = jobExecutions.stream().map(JobExecution::getId).toList();
+		Map<Long, JobParameters> jobParameters = new HashMap<>(executionIds.size());
+		for (int i = 0; i < executionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> ids = executionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, executionIds.size()));
+			jobParameters.putAll(getJobParameters(getQuery(FIND_PARAMS_FROM_IDS, ids.size()), ids.toArray()));
+		}
+		List<JobExecution> result = new ArrayList<>(jobExecutions.size());
+		for (JobExecution jobExecution : jobExecutions) {
+			// executions without parameters are not part of the parameters query result
+			JobParameters parameters = jobParameters.get(jobExecution.getId());
+			result.add(parameters != null ? withJobParameters(jobExecution, parameters) : jobExecution);
+		}
+		return result;
+	}
+
+	private JobExecution withJobParameters(JobExecution jobExecution, JobParameters jobParameters) {
+		JobExecution copy = new JobExecution(jobExecution.getId(), jobExecution.getJobInstance(), jobParameters);
+		copy.setStartTime(jobExecution.getStartTime());
+		copy.setEndTime(jobExecution.getEndTime());
+		copy.setStatus(jobExecution.getStatus());
+		copy.setExitStatus(jobExecution.getExitStatus());
+		copy.setCreateTime(jobExecution.getCreateTime());
+		copy.setLastUpdated(jobExecution.getLastUpdated());
+		copy.setVersion(jobExecution.getVersion());
+		return copy;
+	}
+
+	/**
+	 * Load the parameters of the job executions selected by the given query.
+	 * @param sql a query returning rows of the job execution parameters table
+	 * @param args the arguments of the query
+	 * @return job parameters keyed by job execution id
+	 */
+	@SuppressWarnings(value = { "unchecked", "rawtypes" })
+	private Map<Long, JobParameters> getJobParameters(String sql, Object... args) {
+		final Map<Long, Set<JobParameter<?>>> jobParameters = new HashMap<>();
 		RowCallbackHandler handler = rs -> {
+			long executionId = rs.getLong("JOB_EXECUTION_ID");
 			String parameterName = rs.getString("PARAMETER_NAME");
 
 			Class<?> parameterType = null;
@@ -444,12 +479,38 @@ public class JdbcJobExecutionDao extends AbstractJdbcBatchMetadataDao implements
 
 			JobParameter<?> jobParameter = new JobParameter(parameterName, typedValue, parameterType, identifying);
 
-			jobParameters.add(jobParameter);
+			jobParameters.computeIfAbsent(executionId, id -> new HashSet<>()).add(jobParameter);
 		};
 
-		getJdbcTemplate().query(getQuery(FIND_PARAMS_FROM_ID), handler, executionId);
+		getJdbcTemplate().query(sql, handler, args);
+
+		Map<Long, JobParameters> result = new HashMap<>(jobParameters.size());
+		jobParameters.forEach((executionId, parameters) -> result.put(executionId, new JobParameters(parameters)));
+		return result;
+	}
+
+	/**
+	 * Maps rows of {@link #GET_JOB_EXECUTIONS_WITH_INSTANCE} to job executions without
+	 * parameters, sharing the job instance of executions that belong to the same
+	 * instance.
+	 */
+	private class JobExecutionWithInstanceRowMapper implements RowMapper<JobExecution> {
+
+		private final Map<Long, JobInstance> jobInstances = new HashMap<>();
+
+		private final JobInstanceRowMapper jobInstanceRowMapper = new JobInstanceRowMapper();
+
+		@Override
+		public JobExecution mapRow(ResultSet rs, int rowNum) throws SQLException {
+			long jobInstanceId = rs.getLong("JOB_INSTANCE_ID");
+			JobInstance jobInstance = this.jobInstances.get(jobInstanceId);
+			if (jobInstance == null) {
+				jobInstance = this.jobInstanceRowMapper.mapRow(rs, rowNum);
+				this.jobInstances.put(jobInstanceId, jobInstance);
+			}
+			return new JobExecutionRowMapper(jobInstance, new JobParameters()).mapRow(rs, rowNum);
+		}
 
-		return new JobParameters(jobParameters);
 	}
 
 }
@@ -113,10 +113,17 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 			ORDER BY JOB_INSTANCE_ID DESC
 			""";
 
+	private static final String FIND_LAST_JOBS_WITH_NAME = """
+			SELECT JOB_INSTANCE_ID, JOB_NAME
+			FROM %PREFIX%JOB_INSTANCE
+			WHERE JOB_NAME = ?
+			ORDER BY JOB_INSTANCE_ID DESC
+			""";
+
 	private static final String FIND_JOB_INSTANCES_BY_JOB_NAME = """
 			SELECT JOB_INSTANCE_ID, JOB_NAME
 			FROM %PREFIX%JOB_INSTANCE
-			WHERE JOB_NAME LIKE ?
+			WHERE JOB_NAME = ?
 			""";
 
 	private static final String FIND_LAST_JOB_INSTANCE_BY_JOB_NAME = """
@@ -243,9 +250,12 @@ public class JdbcJobInstanceDao extends AbstractJdbcBatchMetadataDao implements
 
 		if (jobName.contains(STAR_WILDCARD)) {
 			jobName = jobName.replaceAll("\\" + STAR_WILDCARD, SQL_WILDCARD);
+			return getJdbcTemplate().query(getQuery(FIND_LAST_JOBS_BY_NAME), extractor, jobName);
 		}
 
-		return getJdbcTemplate().query(getQuery(FIND_LAST_JOBS_BY_NAME), extractor, jobName);
+		// an equality predicate (rather than LIKE) lets the database use the job name
+		// index
+		return getJdbcTemplate().query(getQuery(FIND_LAST_JOBS_WITH_NAME), extractor, jobName);
 	}
 
 	/**
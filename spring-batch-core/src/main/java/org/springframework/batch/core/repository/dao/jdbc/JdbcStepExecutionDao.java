@@ -21,7 +21,11 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -80,6 +84,11 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE STEP_EXECUTION_ID = ? AND VERSION = ?
 			""";
 
+	private static final String UPDATE_STEP_EXECUTION_IF_JOB_NOT_STOPPED = UPDATE_STEP_EXECUTION + """
+			AND NOT EXISTS (SELECT JE.JOB_EXECUTION_ID FROM %PREFIX%JOB_EXECUTION JE
+				WHERE JE.JOB_EXECUTION_ID = ? AND JE.STATUS = 'STOPPED')
+			""";
+
 	private static final String GET_RAW_STEP_EXECUTIONS = """
 			SELECT STEP_EXECUTION_ID, STEP_NAME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, EXIT_CODE, EXIT_MESSAGE, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, LAST_UPDATED, VERSION, CREATE_TIME
 			FROM %PREFIX%STEP_EXECUTION
@@ -90,6 +99,13 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 
 	private static final String GET_STEP_EXECUTION = GET_RAW_STEP_EXECUTIONS + " WHERE STEP_EXECUTION_ID = ?";
 
+	private static final String GET_STEP_EXECUTIONS_OF_JOB_EXECUTIONS = """
+			SELECT JOB_EXECUTION_ID, STEP_EXECUTION_ID, STEP_NAME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, EXIT_CODE, EXIT_MESSAGE, READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, LAST_UPDATED, VERSION, CREATE_TIME
+			FROM %PREFIX%STEP_EXECUTION
+			WHERE JOB_EXECUTION_ID IN (%IDS%)
+			ORDER BY STEP_EXECUTION_ID
+			""";
+
 	private static final String GET_LAST_STEP_EXECUTION = """
 			SELECT SE.STEP_EXECUTION_ID, SE.STEP_NAME, SE.START_TIME, SE.END_TIME, SE.STATUS, SE.COMMIT_COUNT, SE.READ_COUNT, SE.FILTER_COUNT, SE.WRITE_COUNT, SE.EXIT_CODE, SE.EXIT_MESSAGE, SE.READ_SKIP_COUNT, SE.WRITE_SKIP_COUNT, SE.PROCESS_SKIP_COUNT, SE.ROLLBACK_COUNT, SE.LAST_UPDATED, SE.VERSION, SE.CREATE_TIME, JE.JOB_EXECUTION_ID, JE.START_TIME, JE.END_TIME, JE.STATUS, JE.EXIT_CODE, JE.EXIT_MESSAGE, JE.CREATE_TIME, JE.LAST_UPDATED, JE.VERSION
 			FROM %PREFIX%JOB_EXECUTION JE
@@ -103,6 +119,13 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE STEP_EXECUTION_ID=?
 			""";
 
+	private static final String CURRENT_VERSION_STEP_EXECUTION_AND_JOB_EXECUTION_STATUS = """
+			SELECT SE.VERSION, JE.STATUS
+			FROM %PREFIX%STEP_EXECUTION SE
+				JOIN %PREFIX%JOB_EXECUTION JE ON JE.JOB_EXECUTION_ID = SE.JOB_EXECUTION_ID
+			WHERE SE.STEP_EXECUTION_ID = ?
+			""";
+
 	private static final String COUNT_STEP_EXECUTIONS = """
 			SELECT COUNT(*)
 			FROM %PREFIX%JOB_EXECUTION JE
@@ -121,6 +144,10 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 			WHERE SE.STEP_EXECUTION_ID = ? AND JE.JOB_EXECUTION_ID = SE.JOB_EXECUTION_ID
 			""";
 
+	private static final int[] UPDATE_PARAMETER_TYPES = new int[] { Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR,
+			Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT,
+			Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.BIGINT, Types.INTEGER };
+
 	private int exitMessageLength = DEFAULT_EXIT_MESSAGE_LENGTH;
 
 	private DataFieldMaxValueIncrementer stepExecutionIncrementer;
@@ -172,6 +199,35 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		return stepExecution;
 	}
 
+	/**
+	 * Create the step executions with a single JDBC batch insert. Ids are still obtained
+	 * one at a time from the step execution incrementer.
+	 */
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		List<Object[]> batchParameterValues = new ArrayList<>(stepNames.size());
+		int[] parameterTypes = null;
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = new StepExecution(this.stepExecutionIncrementer.nextLongValue(), stepName,
+					jobExecution);
+			stepExecution.incrementVersion();
+			List<Object[]> parameters = buildStepExecutionParameters(stepExecution);
+			batchParameterValues.add(parameters.get(0));
+			if (parameterTypes == null) {
+				parameterTypes = new int[parameters.get(1).length];
+				for (int i = 0; i < parameterTypes.length; i++) {
+					parameterTypes[i] = (Integer) parameters.get(1)[i];
+				}
+			}
+			stepExecutions.add(stepExecution);
+		}
+		if (parameterTypes != null) {
+			getJdbcTemplate().batchUpdate(getQuery(SAVE_STEP_EXECUTION), batchParameterValues, parameterTypes);
+		}
+		return stepExecutions;
+	}
+
 	private List<Object[]> buildStepExecutionParameters(StepExecution stepExecution) {
 		validateStepExecution(stepExecution);
 		List<Object[]> parameters = new ArrayList<>();
@@ -221,37 +277,18 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		// Do not check for existence of step execution considering
 		// it is saved at every commit point.
 
-		String exitDescription = truncateExitDescription(stepExecution.getExitStatus().getExitDescription());
-
 		// Attempt to prevent concurrent modification errors by blocking here if
 		// someone is already trying to do it.
 		this.lock.lock();
 		try {
-
-			Timestamp startTime = stepExecution.getStartTime() == null ? null
-					: Timestamp.valueOf(stepExecution.getStartTime());
-			Timestamp endTime = stepExecution.getEndTime() == null ? null
-					: Timestamp.valueOf(stepExecution.getEndTime());
-			Timestamp lastUpdated = stepExecution.getLastUpdated() == null ? null
-					: Timestamp.valueOf(stepExecution.getLastUpdated());
-			Object[] parameters = new Object[] { startTime, endTime, stepExecution.getStatus().toString(),
-					stepExecution.getCommitCount(), stepExecution.getReadCount(), stepExecution.getFilterCount(),
-					stepExecution.getWriteCount(), stepExecution.getExitStatus().getExitCode(), exitDescription,
-					stepExecution.getReadSkipCount(), stepExecution.getProcessSkipCount(),
-					stepExecution.getWriteSkipCount(), stepExecution.getRollbackCount(), lastUpdated,
-					stepExecution.getId(), stepExecution.getVersion() };
-			int count = getJdbcTemplate().update(getQuery(UPDATE_STEP_EXECUTION), parameters,
-					new int[] { Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
-							Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BIGINT, Types.BIGINT,
-							Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.BIGINT, Types.INTEGER });
+			int count = getJdbcTemplate().update(getQuery(UPDATE_STEP_EXECUTION), buildUpdateParameters(stepExecution),
+					UPDATE_PARAMETER_TYPES);
 
 			// Avoid concurrent modifications...
 			if (count == 0) {
 				int currentVersion = getJdbcTemplate().queryForObject(getQuery(CURRENT_VERSION_STEP_EXECUTION),
 						Integer.class, stepExecution.getId());
-				throw new OptimisticLockingFailureException(
-						"Attempt to update step execution id=" + stepExecution.getId() + " with wrong version ("
-								+ stepExecution.getVersion() + "), where current version is " + currentVersion);
+				throw newOptimisticLockingFailureException(stepExecution, currentVersion);
 			}
 
 			stepExecution.incrementVersion();
@@ -262,6 +299,79 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 		}
 	}
 
+	/**
+	 * Update the given {@link StepExecution} unless its parent {@link JobExecution} has
+	 * been stopped. The stop check is folded into the update statement, so that the
+	 * common case (job execution not stopped) costs a single round trip to the database.
+	 * The current version of the step execution and the status of its job execution are
+	 * only queried when no row was updated.
+	 * @param stepExecution {@link StepExecution} instance to be updated.
+	 * @return {@code true} if the step execution was updated, {@code false} if the parent
+	 * job execution has been stopped
+	 * @since 6.0.2
+	 */
+	@Override
+	public boolean updateStepExecutionIfJobNotStopped(StepExecution stepExecution) {
+
+		validateStepExecution(stepExecution);
+		Assert.notNull(stepExecution.getId(),
+				"StepExecution Id cannot be null. StepExecution must saved" + " before it can be updated.");
+
+		this.lock.lock();
+		try {
+			Object[] updateParameters = buildUpdateParameters(stepExecution);
+			Object[] parameters = Arrays.copyOf(updateParameters, updateParameters.length + 1);
+			parameters[updateParameters.length] = stepExecution.getJobExecutionId();
+			int[] parameterTypes = Arrays.copyOf(UPDATE_PARAMETER_TYPES, UPDATE_PARAMETER_TYPES.length + 1);
+			parameterTypes[UPDATE_PARAMETER_TYPES.length] = Types.BIGINT;
+			int count = getJdbcTemplate().update(getQuery(UPDATE_STEP_EXECUTION_IF_JOB_NOT_STOPPED), parameters,
+					parameterTypes);
+
+			if (count > 0) {
+				stepExecution.incrementVersion();
+				return true;
+			}
+
+			// Either the job execution has been stopped, or the version is stale
+			List<Object[]> currentState = getJdbcTemplate().query(
+					getQuery(CURRENT_VERSION_STEP_EXECUTION_AND_JOB_EXECUTION_STATUS),
+					(rs, rowNum) -> new Object[] { rs.getInt(1), rs.getString(2) }, stepExecution.getId());
+			Assert.state(!currentState.isEmpty(), "StepExecution with id " + stepExecution.getId()
+					+ " not found. Batch metadata state may be corrupted.");
+			int currentVersion = (Integer) currentState.get(0)[0];
+			BatchStatus jobExecutionStatus = BatchStatus.valueOf((String) currentState.get(0)[1]);
+			if (jobExecutionStatus == BatchStatus.STOPPED) {
+				stepExecution.setVersion(currentVersion);
+				return false;
+			}
+			throw newOptimisticLockingFailureException(stepExecution, currentVersion);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private Object[] buildUpdateParameters(StepExecution stepExecution) {
+		String exitDescription = truncateExitDescription(stepExecution.getExitStatus().getExitDescription());
+		Timestamp startTime = stepExecution.getStartTime() == null ? null
+				: Timestamp.valueOf(stepExecution.getStartTime());
+		Timestamp endTime = stepExecution.getEndTime() == null ? null : Timestamp.valueOf(stepExecution.getEndTime());
+		Timestamp lastUpdated = stepExecution.getLastUpdated() == null ? null
+				: Timestamp.valueOf(stepExecution.getLastUpdated());
+		return new Object[] { startTime, endTime, stepExecution.getStatus().toString(), stepExecution.getCommitCount(),
+				stepExecution.getReadCount(), stepExecution.getFilterCount(), stepExecution.getWriteCount(),
+				stepExecution.getExitStatus().getExitCode(), exitDescription, stepExecution.getReadSkipCount(),
+				stepExecution.getProcessSkipCount(), stepExecution.getWriteSkipCount(),
+				stepExecution.getRollbackCount(), lastUpdated, stepExecution.getId(), stepExecution.getVersion() };
+	}
+
+	private OptimisticLockingFailureException newOptimisticLockingFailureException(StepExecution stepExecution,
+			int currentVersion) {
+		return new OptimisticLockingFailureException(
+				"Attempt to update step execution id=" + stepExecution.getId() + " with wrong version ("
+						+ stepExecution.getVersion() + "), where current version is " + currentVersion);
+	}
+
 	/**
 	 * Truncate the exit description if the length exceeds
 	 * {@link #DEFAULT_EXIT_MESSAGE_LENGTH}.
@@ -355,6 +465,31 @@ public class JdbcStepExecutionDao extends AbstractJdbcBatchMetadataDao implement
 				jobExecution.getId());
 	}
 
+	@Override
+	public List<StepExecution> getStepExecutions(Collection<JobExecution> jobExecutions) {
+		Map<Long, JobExecution> jobExecutionsById = new LinkedHashMap<>();
+		Map<Long, List<StepExecution>> stepExecutionsByJobExecutionId = new HashMap<>();
+		for (JobExecution jobExecution : jobExecutions) {
+			jobExecutionsById.put(jobExecution.getId(), jobExecution);
+			stepExecutionsByJobExecutionId.put(jobExecution.getId(), new ArrayList<>());
+		}
+		List<Long> jobExecutionIds = new ArrayList<>(jobExecutionsById.keySet());
+		for (int i = 0; i < jobExecutionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> ids = jobExecutionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, jobExecutionIds.size()));
+			getJdbcTemplate().query(getQuery(GET_STEP_EXECUTIONS_OF_JOB_EXECUTIONS, ids.size()), rs -> {
+				long jobExecutionId = rs.getLong("JOB_EXECUTION_ID");
+				JobExecution jobExecution = jobExecutionsById.get(jobExecutionId);
+				stepExecutionsByJobExecutionId.get(jobExecutionId)
+					.add(new StepExecutionRowMapper(jobExecution).mapRow(rs, 0));
+			}, ids.toArray());
+		}
+		List<StepExecution> stepExecutions = new ArrayList<>();
+		for (long jobExecutionId : jobExecutionIds) {
+			stepExecutions.addAll(stepExecutionsByJobExecutionId.get(jobExecutionId));
+		}
+		return stepExecutions;
+	}
+
 	@Override
 	public long countStepExecutions(JobInstance jobInstance, String stepName) {
 		return getJdbcTemplate().queryForObject(getQuery(COUNT_STEP_EXECUTIONS), Long.class,
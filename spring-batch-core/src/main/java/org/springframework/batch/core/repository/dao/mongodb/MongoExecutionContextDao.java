@@ -17,14 +17,22 @@ package org.springframework.batch.core.repository.dao.mongodb;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
@@ -41,10 +49,26 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 
 	private final MongoOperations mongoOperations;
 
+	private boolean updateDirtyContextsOnly = false;
+
 	public MongoExecutionContextDao(MongoOperations mongoOperations) {
 		this.mongoOperations = mongoOperations;
 	}
 
+	/**
+	 * Set whether updates of execution contexts that did not change since they were last
+	 * written should be skipped. When enabled, the dirty flag of an execution context is
+	 * cleared each time the context is updated, and no update is sent for a context that
+	 * is not {@link ExecutionContext#isDirty() dirty}. If the update takes part in a
+	 * transaction that is rolled back, the context is marked dirty again. Defaults to
+	 * {@code false}.
+	 * @param updateDirtyContextsOnly {@code true} to skip updates of clean contexts
+	 * @since 6.0.2
+	 */
+	public void setUpdateDirtyContextsOnly(boolean updateDirtyContextsOnly) {
+		this.updateDirtyContextsOnly = updateDirtyContextsOnly;
+	}
+
 	@Override
 	public ExecutionContext getExecutionContext(JobExecution jobExecution) {
 		Query query = query(where("jobExecutionId").is(jobExecution.getId()));
@@ -69,6 +93,40 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 		return new ExecutionContext(execution.getExecutionContext().map());
 	}
 
+	@Override
+	public Map<Long, ExecutionContext> getJobExecutionContexts(Collection<JobExecution> jobExecutions) {
+		List<Long> executionIds = jobExecutions.stream().map(JobExecution::getId).toList();
+		Query query = query(where("jobExecutionId").in(executionIds));
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.JobExecution execution : this.mongoOperations.find(
+				query, org.springframework.batch.core.repository.persistence.JobExecution.class,
+				JOB_EXECUTIONS_COLLECTION_NAME)) {
+			executionContexts.put(execution.getJobExecutionId(),
+					new ExecutionContext(execution.getExecutionContext().map()));
+		}
+		for (Long executionId : executionIds) {
+			executionContexts.computeIfAbsent(executionId, id -> new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
+	@Override
+	public Map<Long, ExecutionContext> getStepExecutionContexts(Collection<StepExecution> stepExecutions) {
+		List<Long> executionIds = stepExecutions.stream().map(StepExecution::getId).toList();
+		Query query = query(where("stepExecutionId").in(executionIds));
+		Map<Long, ExecutionContext> executionContexts = new HashMap<>();
+		for (org.springframework.batch.core.repository.persistence.StepExecution execution : this.mongoOperations.find(
+				query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+				STEP_EXECUTIONS_COLLECTION_NAME)) {
+			executionContexts.put(execution.getStepExecutionId(),
+					new ExecutionContext(execution.getExecutionContext().map()));
+		}
+		for (Long executionId : executionIds) {
+			executionContexts.computeIfAbsent(executionId, id -> new ExecutionContext());
+		}
+		return executionContexts;
+	}
+
 	@Override
 	public void saveExecutionContext(JobExecution jobExecution) {
 		ExecutionContext executionContext = jobExecution.getExecutionContext();
@@ -98,19 +156,64 @@ public class MongoExecutionContextDao implements ExecutionContextDao {
 
 	@Override
 	public void saveExecutionContexts(Collection<StepExecution> stepExecutions) {
+		if (stepExecutions.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations = this.mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED,
+				STEP_EXECUTIONS_COLLECTION_NAME);
 		for (StepExecution stepExecution : stepExecutions) {
-			saveExecutionContext(stepExecution);
+			ExecutionContext executionContext = stepExecution.getExecutionContext();
+			bulkOperations.updateOne(query(where("stepExecutionId").is(stepExecution.getId())),
+					Update.update("executionContext",
+							new org.springframework.batch.core.repository.persistence.ExecutionContext(
+									executionContext.toMap(), executionContext.isDirty())));
 		}
+		bulkOperations.execute();
 	}
 
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
-		saveExecutionContext(jobExecution);
+		if (shouldUpdate(jobExecution.getExecutionContext())) {
+			saveExecutionContext(jobExecution);
+		}
 	}
 
 	@Override
 	public void updateExecutionContext(StepExecution stepExecution) {
-		saveExecutionContext(stepExecution);
+		if (shouldUpdate(stepExecution.getExecutionContext())) {
+			saveExecutionContext(stepExecution);
+		}
+	}
+
+	private boolean shouldUpdate(ExecutionContext executionContext) {
+		if (!this.updateDirtyContextsOnly) {
+			return true;
+		}
+		if (!executionContext.isDirty()) {
+			return false;
+		}
+		clearDirtyFlag(executionContext);
+		return true;
+	}
+
+	/*
+	 * Clear the dirty flag of a context that is about to be written. If the write takes
+	 * part in a transaction, the context is marked dirty again when that transaction does
+	 * not commit, so that the next update does not skip it.
+	 */
+	private static void clearDirtyFlag(ExecutionContext executionContext) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			Set<String> dirtyKeys = new HashSet<>(executionContext.getDirtyKeys());
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						executionContext.markDirty(dirtyKeys);
+					}
+				}
+			});
+		}
+		executionContext.clearDirtyFlag();
 	}
 
 	@Override
@@ -15,9 +15,12 @@
  */
 package org.springframework.batch.core.repository.dao.mongodb;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
 
@@ -27,9 +30,11 @@ import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
 import org.springframework.batch.core.repository.persistence.converter.JobExecutionConverter;
 import org.springframework.batch.core.repository.persistence.converter.StepExecutionConverter;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
@@ -81,6 +86,23 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 		return stepExecution;
 	}
 
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames) {
+		List<StepExecution> stepExecutions = new ArrayList<>(stepNames.size());
+		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutionsToSave = new ArrayList<>(
+				stepNames.size());
+		for (String stepName : stepNames) {
+			StepExecution stepExecution = new StepExecution(stepExecutionIncrementer.nextLongValue(), stepName,
+					jobExecution);
+			stepExecutions.add(stepExecution);
+			stepExecutionsToSave.add(this.stepExecutionConverter.fromStepExecution(stepExecution));
+		}
+		if (!stepExecutionsToSave.isEmpty()) {
+			this.mongoOperations.insert(stepExecutionsToSave, STEP_EXECUTIONS_COLLECTION_NAME);
+		}
+		return stepExecutions;
+	}
+
 	@Override
 	public void updateStepExecution(StepExecution stepExecution) {
 		Query query = query(where("stepExecutionId").is(stepExecution.getId()));
@@ -113,37 +135,25 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 	@Nullable
 	@Override
 	public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
-		// TODO optimize the query
-		// get all step executions
-		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
-		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
-			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
-					JOB_EXECUTIONS_COLLECTION_NAME);
-		List<org.springframework.batch.core.repository.persistence.StepExecution> stepExecutions = this.mongoOperations
-			.find(query(where("jobExecutionId").in(jobExecutions.stream()
-				.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
-				.toList())), org.springframework.batch.core.repository.persistence.StepExecution.class,
+		// sort step executions by creation date then id (see contract) and keep the last
+		// one, using the step execution index of the schema
+		Query query = query(where("jobExecutionId").in(getJobExecutionIds(jobInstance)).and("name").is(stepName))
+			.with(Sort.by(Sort.Direction.DESC, "createTime", "stepExecutionId"))
+			.limit(1);
+		org.springframework.batch.core.repository.persistence.StepExecution stepExecution = this.mongoOperations
+			.findOne(query, org.springframework.batch.core.repository.persistence.StepExecution.class,
 					STEP_EXECUTIONS_COLLECTION_NAME);
-		// sort step executions by creation date then id (see contract) and return the
-		// last one
-		Optional<org.springframework.batch.core.repository.persistence.StepExecution> lastStepExecution = stepExecutions
-			.stream()
-			.filter(stepExecution -> stepExecution.getName().equals(stepName))
-			.max(Comparator
-				.comparing(org.springframework.batch.core.repository.persistence.StepExecution::getCreateTime)
-				.thenComparing(
-						org.springframework.batch.core.repository.persistence.StepExecution::getStepExecutionId));
-		if (lastStepExecution.isPresent()) {
-			org.springframework.batch.core.repository.persistence.StepExecution stepExecution = lastStepExecution.get();
-			JobExecution jobExecution = this.jobExecutionConverter.toJobExecution(jobExecutions.stream()
-				.filter(execution -> execution.getJobExecutionId() == stepExecution.getJobExecutionId())
-				.findFirst()
-				.get(), jobInstance);
-			return this.stepExecutionConverter.toStepExecution(stepExecution, jobExecution);
-		}
-		else {
+		if (stepExecution == null) {
 			return null;
 		}
+		org.springframework.batch.core.repository.persistence.JobExecution jobExecution = this.mongoOperations.findOne(
+				query(where("jobExecutionId").is(stepExecution.getJobExecutionId())),
+				org.springframework.batch.core.repository.persistence.JobExecution.class,
+				JOB_EXECUTIONS_COLLECTION_NAME);
+		Assert.state(jobExecution != null,
+				"No job execution found for step execution " + stepExecution.getStepExecutionId());
+		return this.stepExecutionConverter.toStepExecution(stepExecution,
+				this.jobExecutionConverter.toJobExecution(jobExecution, jobInstance));
 	}
 
 	/**
@@ -163,18 +173,25 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 			.toList();
 	}
 
+	@Override
+	public List<StepExecution> getStepExecutions(Collection<JobExecution> jobExecutions) {
+		Map<Long, JobExecution> jobExecutionsById = jobExecutions.stream()
+			.collect(Collectors.toMap(JobExecution::getId, Function.identity(), (first, second) -> first));
+		Query query = query(where("jobExecutionId").in(jobExecutionsById.keySet()))
+			.with(Sort.by("jobExecutionId", "stepExecutionId"));
+		return this.mongoOperations
+			.find(query, org.springframework.batch.core.repository.persistence.StepExecution.class,
+					STEP_EXECUTIONS_COLLECTION_NAME)
+			.stream()
+			.map(stepExecution -> this.stepExecutionConverter.toStepExecution(stepExecution,
+					jobExecutionsById.get(stepExecution.getJobExecutionId())))
+			.toList();
+	}
+
 	@Override
 	public long countStepExecutions(JobInstance jobInstance, String stepName) {
-		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
-		List<org.springframework.batch.core.repository.persistence.JobExecution> jobExecutions = this.mongoOperations
-			.find(query, org.springframework.batch.core.repository.persistence.JobExecution.class,
-					JOB_EXECUTIONS_COLLECTION_NAME);
-		return this.mongoOperations.count(
-				query(where("jobExecutionId").in(jobExecutions.stream()
-					.map(org.springframework.batch.core.repository.persistence.JobExecution::getJobExecutionId)
-					.toList())),
-				org.springframework.batch.core.repository.persistence.StepExecution.class,
-				STEP_EXECUTIONS_COLLECTION_NAME);
+		Query query = query(where("jobExecutionId").in(getJobExecutionIds(jobInstance)).and("name").is(stepName));
+		return this.mongoOperations.count(query, STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
 	@Override
@@ -183,4 +200,9 @@ public class MongoStepExecutionDao implements StepExecutionDao {
 				STEP_EXECUTIONS_COLLECTION_NAME);
 	}
 
+	private List<Long> getJobExecutionIds(JobInstance jobInstance) {
+		Query query = query(where("jobInstanceId").is(jobInstance.getId()));
+		return this.mongoOperations.findDistinct(query, "jobExecutionId", JOB_EXECUTIONS_COLLECTION_NAME, Long.class);
+	}
+
 }
@@ -27,11 +27,15 @@ import org.springframework.batch.core.repository.dao.ExecutionContextDao;
 import org.springframework.batch.core.repository.dao.JobExecutionDao;
 import org.springframework.batch.core.repository.dao.JobInstanceDao;
 import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.core.repository.support.JobMetadataCache;
 import org.springframework.batch.core.repository.support.SimpleJobRepository;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -65,6 +69,8 @@ public class SimpleJobExplorer implements JobExplorer {
 
 	protected ExecutionContextDao ecDao;
 
+	protected JobMetadataCache metadataCache = new JobMetadataCache(0);
+
 	/**
 	 * Constructor to initialize the job {@link SimpleJobExplorer}.
 	 * @param jobInstanceDao The {@link JobInstanceDao} to be used by the repository.
@@ -81,6 +87,17 @@ public class SimpleJobExplorer implements JobExplorer {
 		this.ecDao = ecDao;
 	}
 
+	/**
+	 * Set the cache of immutable meta-data (job instances and completed job executions)
+	 * to use. Defaults to a cache of size {@code 0}, i.e. no caching.
+	 * @param metadataCache the meta-data cache to use
+	 * @since 6.0.2
+	 */
+	public void setMetadataCache(JobMetadataCache metadataCache) {
+		Assert.notNull(metadataCache, "Metadata cache must not be null");
+		this.metadataCache = metadataCache;
+	}
+
 	/*
 	 * ===================================================================================
 	 * Job operations
@@ -123,13 +140,27 @@ public class SimpleJobExplorer implements JobExplorer {
 	@Nullable
 	@Override
 	public JobInstance getJobInstance(long instanceId) {
-		return jobInstanceDao.getJobInstance(instanceId);
+		JobInstance jobInstance = metadataCache.getJobInstance(instanceId);
+		if (jobInstance == null) {
+			jobInstance = jobInstanceDao.getJobInstance(instanceId);
+			if (jobInstance != null) {
+				metadataCache.putJobInstance(jobInstance);
+			}
+		}
+		return jobInstance;
 	}
 
 	@Nullable
 	@Override
 	public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
-		return jobInstanceDao.getJobInstance(jobName, jobParameters);
+		JobInstance jobInstance = metadataCache.getJobInstance(jobName, jobParameters);
+		if (jobInstance == null) {
+			jobInstance = jobInstanceDao.getJobInstance(jobName, jobParameters);
+			if (jobInstance != null) {
+				metadataCache.putJobInstance(jobName, jobParameters, jobInstance);
+			}
+		}
+		return jobInstance;
 	}
 
 	@Nullable
@@ -157,12 +188,7 @@ public class SimpleJobExplorer implements JobExplorer {
 	@Override
 	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
 		List<JobExecution> executions = jobExecutionDao.findJobExecutions(jobInstance);
-		for (JobExecution jobExecution : executions) {
-			fillJobExecutionDependencies(jobExecution);
-			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-				fillStepExecutionDependencies(stepExecution);
-			}
-		}
+		fillJobExecutionsDependencies(executions);
 		return executions;
 	}
 
@@ -207,26 +233,23 @@ public class SimpleJobExplorer implements JobExplorer {
 	@Override
 	public Set<JobExecution> findRunningJobExecutions(@Nullable String jobName) {
 		Set<JobExecution> executions = jobExecutionDao.findRunningJobExecutions(jobName);
-		for (JobExecution jobExecution : executions) {
-			fillJobExecutionDependencies(jobExecution);
-			for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-				fillStepExecutionDependencies(stepExecution);
-			}
-		}
+		fillJobExecutionsDependencies(executions);
 		return executions;
 	}
 
 	@Nullable
 	@Override
 	public JobExecution getJobExecution(long executionId) {
-		JobExecution jobExecution = jobExecutionDao.getJobExecution(executionId);
+		JobExecution jobExecution = metadataCache.getJobExecution(executionId);
+		if (jobExecution != null) {
+			return jobExecution;
+		}
+		jobExecution = jobExecutionDao.getJobExecution(executionId);
 		if (jobExecution == null) {
 			return null;
 		}
-		fillJobExecutionDependencies(jobExecution);
-		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-			fillStepExecutionDependencies(stepExecution);
-		}
+		fillJobExecutionsDependencies(List.of(jobExecution));
+		metadataCache.putJobExecution(jobExecution);
 		return jobExecution;
 	}
 
@@ -242,6 +265,32 @@ public class SimpleJobExplorer implements JobExplorer {
 
 	}
 
+	/**
+	 * Fill the step executions and the execution contexts of the given job executions
+	 * (including the execution contexts of their step executions) with a constant number
+	 * of calls to the DAOs, regardless of the number of job executions. The job instance
+	 * of each job execution is expected to be set by the {@link JobExecutionDao}.
+	 * @param jobExecutions the job executions to fill
+	 * @since 6.0.2
+	 */
+	protected void fillJobExecutionsDependencies(Collection<JobExecution> jobExecutions) {
+		if (jobExecutions.isEmpty()) {
+			return;
+		}
+		List<StepExecution> stepExecutions = stepExecutionDao.getStepExecutions(jobExecutions);
+		Map<Long, ExecutionContext> jobExecutionContexts = ecDao.getJobExecutionContexts(jobExecutions);
+		Map<Long, ExecutionContext> stepExecutionContexts = ecDao.getStepExecutionContexts(stepExecutions);
+		for (StepExecution stepExecution : stepExecutions) {
+			stepExecution
+				.setExecutionContext(stepExecutionContexts.getOrDefault(stepExecution.getId(), new ExecutionContext()));
+			stepExecution.getJobExecution().addStepExecution(stepExecution);
+		}
+		for (JobExecution jobExecution : jobExecutions) {
+			jobExecution
+				.setExecutionContext(jobExecutionContexts.getOrDefault(jobExecution.getId(), new ExecutionContext()));
+		}
+	}
+
 	/*
 	 * ===================================================================================
 	 * Step execution operations
@@ -66,6 +66,8 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 
 	private boolean validateTransactionState = true;
 
+	private int metadataCacheSize;
+
 	private static final String TRANSACTION_ISOLATION_LEVEL_PREFIX = "ISOLATION_";
 
 	private static final String TRANSACTION_PROPAGATION_PREFIX = "PROPAGATION_";
@@ -186,6 +188,18 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 		this.jobKeyGenerator = jobKeyGenerator;
 	}
 
+	/**
+	 * Set the maximum number of job instances and completed job executions to cache in
+	 * memory. Defaults to {@code 0}, i.e. no caching.
+	 * @param metadataCacheSize the size of the meta-data cache
+	 * @since 6.0.2
+	 * @see JobMetadataCache
+	 */
+	public void setMetadataCacheSize(int metadataCacheSize) {
+		Assert.isTrue(metadataCacheSize >= 0, "Metadata cache size must not be negative");
+		this.metadataCacheSize = metadataCacheSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.state(transactionManager != null, "TransactionManager must not be null.");
@@ -219,7 +233,11 @@ public abstract class AbstractJobRepositoryFactoryBean implements FactoryBean<Jo
 		this.proxyFactory.addAdvice(advice);
 		this.proxyFactory.setProxyTargetClass(false);
 		this.proxyFactory.addInterface(JobRepository.class);
-		this.proxyFactory.setTarget(getTarget());
+		Object target = getTarget();
+		if (target instanceof SimpleJobRepository jobRepository) {
+			jobRepository.setMetadataCache(new JobMetadataCache(this.metadataCacheSize));
+		}
+		this.proxyFactory.setTarget(target);
 		return (JobRepository) this.proxyFactory.getProxy(getClass().getClassLoader());
 	}
 
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.NoSuchStepException;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link JobRepository} decorator that coalesces the updates of running step executions
+ * (and their execution contexts) issued at chunk boundaries. Instead of writing the step
+ * execution and its execution context after each chunk, pending updates are written to
+ * the delegate in a single flush every {@code flushInterval} chunks or once
+ * {@code flushTimeout} has elapsed since the last flush, whichever comes first.
+ * <p>
+ * Updates are always written synchronously when:
+ * <ul>
+ * <li>the step execution is first updated (i.e. when the step starts)</li>
+ * <li>the step execution is not {@link BatchStatus#STARTED} anymore (i.e. when the step
+ * ends, successfully or not)</li>
+ * <li>the step execution has been marked as {@link StepExecution#isTerminateOnly()
+ * terminate only}</li>
+ * <li>{@link #flush(StepExecution)} is called explicitly, for instance from a chunk
+ * listener when the state of a stream must be durable at a given point</li>
+ * </ul>
+ * All other operations are delegated as is. Pending updates of a step execution that did
+ * not end (for instance, because its final update failed) are discarded when its job
+ * execution is updated with a status that is not {@link BatchStatus#isRunning() running}.
+ * <p>
+ * <strong>Trade-off:</strong> the persisted state of a running step lags behind its
+ * in-memory state by up to {@code flushInterval - 1} chunks (or by up to
+ * {@code flushTimeout}). In particular, the execution context is no longer written in the
+ * same transaction as each chunk. If the process crashes, a restart resumes from the last
+ * flushed execution context and may therefore reprocess up to
+ * {@code (flushInterval - 1) * chunkSize} items, so item writers must be idempotent. For
+ * the same reason, a stop request issued through the job operator is only detected on the
+ * next flush. The flush timeout is only evaluated at chunk boundaries, no background
+ * thread is used.
+ * <p>
+ * This decorator is thread-safe provided that the delegate is thread-safe.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+@SuppressWarnings("removal")
+public class CoalescingJobRepository implements JobRepository {
+
+	private static final int DEFAULT_FLUSH_INTERVAL = 10;
+
+	private static final Duration DEFAULT_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+	private final JobRepository delegate;
+
+	private final Map<Long, PendingUpdates> pendingUpdates = new ConcurrentHashMap<>();
+
+	private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+	private Duration flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+
+	/**
+	 * Create a new {@link CoalescingJobRepository}.
+	 * @param delegate the job repository to write updates to
+	 */
+	public CoalescingJobRepository(JobRepository delegate) {
+		Assert.notNull(delegate, "Delegate job repository must not be null");
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Set the number of chunk updates to coalesce before flushing them to the delegate.
+	 * Defaults to 10.
+	 * @param flushInterval the number of chunk updates between two flushes
+	 */
+	public void setFlushInterval(int flushInterval) {
+		Assert.isTrue(flushInterval > 0, "Flush interval must be greater than 0");
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Set the maximum time pending updates can be held before being flushed to the
+	 * delegate. Defaults to 10 seconds.
+	 * @param flushTimeout the maximum time between two flushes
+	 */
+	public void setFlushTimeout(Duration flushTimeout) {
+		Assert.notNull(flushTimeout, "Flush timeout must not be null");
+		Assert.isTrue(!flushTimeout.isNegative(), "Flush timeout must not be negative");
+		this.flushTimeout = flushTimeout;
+	}
+
+	/**
+	 * Write pending updates of the given step execution (if any) to the delegate.
+	 * @param stepExecution the step execution to flush
+	 */
+	public void flush(StepExecution stepExecution) {
+		PendingUpdates pending = this.pendingUpdates.get(stepExecution.getId());
+		if (pending == null) {
+			return;
+		}
+		pending.lock.lock();
+		try {
+			pending.flush(stepExecution);
+		}
+		finally {
+			pending.lock.unlock();
+		}
+	}
+
+	/*
+	 * ===================================================================================
+	 * Coalesced operations
+	 * ===================================================================================
+	 */
+
+	@Override
+	public void update(StepExecution stepExecution) {
+		bufferOrFlush(stepExecution, true);
+	}
+
+	@Override
+	public void updateExecutionContext(StepExecution stepExecution) {
+		bufferOrFlush(stepExecution, false);
+	}
+
+	private void bufferOrFlush(StepExecution stepExecution, boolean stepExecutionUpdate) {
+		boolean running = stepExecution.getStatus() == BatchStatus.STARTED && !stepExecution.isTerminateOnly();
+		PendingUpdates pending = this.pendingUpdates.computeIfAbsent(stepExecution.getId(),
+				id -> new PendingUpdates(stepExecution.getJobExecutionId()));
+		pending.lock.lock();
+		try {
+			if (stepExecutionUpdate) {
+				pending.stepExecution = true;
+				pending.chunks++;
+			}
+			else {
+				pending.executionContext = true;
+			}
+			if (running && !pending.isDue()) {
+				return;
+			}
+			pending.flush(stepExecution);
+		}
+		finally {
+			pending.lock.unlock();
+		}
+		if (!running) {
+			this.pendingUpdates.remove(stepExecution.getId());
+		}
+	}
+
+	@Override
+	public void deleteStepExecution(StepExecution stepExecution) {
+		this.pendingUpdates.remove(stepExecution.getId());
+		this.delegate.deleteStepExecution(stepExecution);
+	}
+
+	/*
+	 * ===================================================================================
+	 * Delegated operations
+	 * ===================================================================================
+	 */
+
+	@Override
+	public List<String> getJobNames() {
+		return this.delegate.getJobNames();
+	}
+
+	@Override
+	public List<JobInstance> getJobInstances(String jobName, int start, int count) {
+		return this.delegate.getJobInstances(jobName, start, count);
+	}
+
+	@Override
+	@Deprecated(since = "6.0", forRemoval = true)
+	public List<JobInstance> findJobInstancesByJobName(String jobName, int start, int count) {
+		return this.delegate.findJobInstancesByJobName(jobName, start, count);
+	}
+
+	@Override
+	@Deprecated(since = "6.0", forRemoval = true)
+	public List<JobInstance> findJobInstancesByName(String jobName, int start, int count) {
+		return this.delegate.findJobInstancesByName(jobName, start, count);
+	}
+
+	@Override
+	public List<JobInstance> findJobInstances(String jobName) {
+		return this.delegate.findJobInstances(jobName);
+	}
+
+	@Override
+	@Deprecated(since = "6.0", forRemoval = true)
+	public boolean isJobInstanceExists(String jobName, JobParameters jobParameters) {
+		return this.delegate.isJobInstanceExists(jobName, jobParameters);
+	}
+
+	@Override
+	@Nullable public JobInstance getJobInstance(long jobInstanceId) {
+		return this.delegate.getJobInstance(jobInstanceId);
+	}
+
+	@Override
+	@Nullable public JobInstance getLastJobInstance(String jobName) {
+		return this.delegate.getLastJobInstance(jobName);
+	}
+
+	@Override
+	@Nullable public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.getJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public long getJobInstanceCount(String jobName) throws NoSuchJobException {
+		return this.delegate.getJobInstanceCount(jobName);
+	}
+
+	@Override
+	public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+		return this.delegate.createJobInstance(jobName, jobParameters);
+	}
+
+	@Override
+	public void deleteJobInstance(JobInstance jobInstance) {
+		this.delegate.deleteJobInstance(jobInstance);
+	}
+
+	@Override
+	@Nullable public JobExecution getJobExecution(long executionId) {
+		return this.delegate.getJobExecution(executionId);
+	}
+
+	@Override
+	public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+		return this.delegate.getJobExecutions(jobInstance);
+	}
+
+	@Override
+	@Deprecated(since = "6.0", forRemoval = true)
+	public List<JobExecution> findJobExecutions(JobInstance jobInstance) {
+		return this.delegate.findJobExecutions(jobInstance);
+	}
+
+	@Override
+	@Nullable public JobExecution getLastJobExecution(JobInstance jobInstance) {
+		return this.delegate.getLastJobExecution(jobInstance);
+	}
+
+	@Override
+	@Nullable public JobExecution getLastJobExecution(String jobName, JobParameters jobParameters) {
+		return this.delegate.getLastJobExecution(jobName, jobParameters);
+	}
+
+	@Override
+	public Set<JobExecution> findRunningJobExecutions(String jobName) {
+		return this.delegate.findRunningJobExecutions(jobName);
+	}
+
+	@Override
+	public JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters,
+			ExecutionContext executionContext) {
+		return this.delegate.createJobExecution(jobInstance, jobParameters, executionContext);
+	}
+
+	@Override
+	public void update(JobExecution jobExecution) {
+		this.delegate.update(jobExecution);
+		if (!jobExecution.getStatus().isRunning()) {
+			long jobExecutionId = jobExecution.getId();
+			this.pendingUpdates.values().removeIf(pending -> pending.jobExecutionId == jobExecutionId);
+		}
+	}
+
+	@Override
+	public void updateExecutionContext(JobExecution jobExecution) {
+		this.delegate.updateExecutionContext(jobExecution);
+	}
+
+	@Override
+	public void deleteJobExecution(JobExecution jobExecution) {
+		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+			this.pendingUpdates.remove(stepExecution.getId());
+		}
+		this.delegate.deleteJobExecution(jobExecution);
+	}
+
+	@Override
+	@Deprecated(since = "6.0", forRemoval = true)
+	@Nullable public StepExecution getStepExecution(long jobExecutionId, long stepExecutionId) {
+		return this.delegate.getStepExecution(jobExecutionId, stepExecutionId);
+	}
+
+	@Override
+	@Nullable public StepExecution getStepExecution(long stepExecutionId) {
+		return this.delegate.getStepExecution(stepExecutionId);
+	}
+
+	@Override
+	@Nullable public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+		return this.delegate.getLastStepExecution(jobInstance, stepName);
+	}
+
+	@Override
+	public long getStepExecutionCount(JobInstance jobInstance, String stepName) throws NoSuchStepException {
+		return this.delegate.getStepExecutionCount(jobInstance, stepName);
+	}
+
+	@Override
+	public StepExecution createStepExecution(String stepName, JobExecution jobExecution) {
+		return this.delegate.createStepExecution(stepName, jobExecution);
+	}
+
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames,
+			List<ExecutionContext> executionContexts) {
+		return this.delegate.createStepExecutions(jobExecution, stepNames, executionContexts);
+	}
+
+	/**
+	 * Updates of a single step execution that have not been written to the delegate yet.
+	 */
+	private final class PendingUpdates {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final long jobExecutionId;
+
+		private boolean stepExecution;
+
+		private boolean executionContext;
+
+		private int chunks;
+
+		private long lastFlushTime = -1;
+
+		PendingUpdates(long jobExecutionId) {
+			this.jobExecutionId = jobExecutionId;
+		}
+
+		boolean isDue() {
+			return this.lastFlushTime < 0 || this.chunks >= flushInterval
+					|| System.nanoTime() - this.lastFlushTime >= flushTimeout.toNanos();
+		}
+
+		void flush(StepExecution execution) {
+			if (this.stepExecution) {
+				delegate.update(execution);
+			}
+			if (this.executionContext) {
+				delegate.updateExecutionContext(execution);
+			}
+			this.stepExecution = false;
+			this.executionContext = false;
+			this.chunks = 0;
+			this.lastFlushTime = System.nanoTime();
+		}
+
+	}
+
+}
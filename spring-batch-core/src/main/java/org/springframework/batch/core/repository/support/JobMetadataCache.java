@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, in-memory cache of batch meta-data that cannot change once persisted:
+ * <ul>
+ * <li>job instances, looked up by id or by job name and job parameters</li>
+ * <li>completed job executions (i.e. that ended with status
+ * {@link BatchStatus#COMPLETED}), including their job parameters, step executions and
+ * execution contexts</li>
+ * </ul>
+ * Each region holds at most {@code maxSize} entries and evicts the least recently used
+ * entry when full. A cache created with a size of {@code 0} holds nothing.
+ * <p>
+ * Job instances and job executions are mutable, and the repository adds the executions of
+ * an instance to it when they are created. The cache therefore stores a copy of each
+ * object and returns a new copy on each lookup, so callers never share an instance with
+ * the cache or with each other. Copies are shallow below execution contexts: the values
+ * of a context are not copied.
+ * <p>
+ * Entries are evicted when the corresponding meta-data is updated or deleted through the
+ * {@link SimpleJobRepository} that owns the cache, but not when it is modified by another
+ * process, so this cache should not be used when meta-data is deleted concurrently by
+ * other job repositories.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+public class JobMetadataCache {
+
+	private final int maxSize;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<Long, JobInstance> jobInstances;
+
+	private final Map<JobInstanceKey, JobInstance> jobInstancesByKey;
+
+	private final Map<Long, JobExecution> jobExecutions;
+
+	/**
+	 * Create a new {@link JobMetadataCache}.
+	 * @param maxSize the maximum number of entries of each cached type, {@code 0} to
+	 * disable caching
+	 */
+	public JobMetadataCache(int maxSize) {
+		Assert.isTrue(maxSize >= 0, "Max size must not be negative");
+		this.maxSize = maxSize;
+		this.jobInstances = createLruMap(maxSize);
+		this.jobInstancesByKey = createLruMap(maxSize);
+		this.jobExecutions = createLruMap(maxSize);
+	}
+
+	/**
+	 * @return true if this cache can hold entries
+	 */
+	public boolean isEnabled() {
+		return this.maxSize > 0;
+	}
+
+	/**
+	 * @param jobInstanceId the id of the job instance
+	 * @return the cached job instance or {@code null} if not cached
+	 */
+	@Nullable public JobInstance getJobInstance(long jobInstanceId) {
+		JobInstance jobInstance = get(this.jobInstances, jobInstanceId);
+		return jobInstance != null ? copy(jobInstance) : null;
+	}
+
+	/**
+	 * @param jobName the name of the job
+	 * @param jobParameters the job parameters of the job instance
+	 * @return the cached job instance or {@code null} if not cached
+	 */
+	@Nullable public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+		JobInstance jobInstance = get(this.jobInstancesByKey, new JobInstanceKey(jobName, jobParameters));
+		return jobInstance != null ? copy(jobInstance) : null;
+	}
+
+	/**
+	 * Cache the given job instance.
+	 * @param jobInstance the job instance to cache
+	 */
+	public void putJobInstance(JobInstance jobInstance) {
+		if (isEnabled()) {
+			put(this.jobInstances, jobInstance.getId(), copy(jobInstance));
+		}
+	}
+
+	/**
+	 * Cache the given job instance under the given job name and job parameters.
+	 * @param jobName the name of the job
+	 * @param jobParameters the job parameters of the job instance
+	 * @param jobInstance the job instance to cache
+	 */
+	public void putJobInstance(String jobName, JobParameters jobParameters, JobInstance jobInstance) {
+		if (isEnabled()) {
+			put(this.jobInstancesByKey, new JobInstanceKey(jobName, jobParameters), copy(jobInstance));
+		}
+	}
+
+	/**
+	 * @param jobExecutionId the id of the job execution
+	 * @return the cached job execution or {@code null} if not cached
+	 */
+	@Nullable public JobExecution getJobExecution(long jobExecutionId) {
+		JobExecution jobExecution = get(this.jobExecutions, jobExecutionId);
+		return jobExecution != null ? copy(jobExecution) : null;
+	}
+
+	/**
+	 * Cache the given job execution if it is completed. Other job executions are ignored
+	 * since they can still be updated.
+	 * @param jobExecution the job execution to cache
+	 */
+	public void putJobExecution(JobExecution jobExecution) {
+		if (isEnabled() && jobExecution.getStatus() == BatchStatus.COMPLETED && jobExecution.getEndTime() != null) {
+			put(this.jobExecutions, jobExecution.getId(), copy(jobExecution));
+		}
+	}
+
+	/**
+	 * Evict the given job instance, whatever key it is cached under.
+	 * @param jobInstanceId the id of the job instance to evict
+	 */
+	public void evictJobInstance(long jobInstanceId) {
+		if (!isEnabled()) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			this.jobInstances.remove(jobInstanceId);
+			this.jobInstancesByKey.values().removeIf(jobInstance -> jobInstance.getId() == jobInstanceId);
+			this.jobExecutions.values()
+				.removeIf(jobExecution -> jobExecution.getJobInstance().getId() == jobInstanceId);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Evict the given job execution.
+	 * @param jobExecutionId the id of the job execution to evict
+	 */
+	public void evictJobExecution(long jobExecutionId) {
+		if (!isEnabled()) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			this.jobExecutions.remove(jobExecutionId);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Evict all entries.
+	 */
+	public void clear() {
+		this.lock.lock();
+		try {
+			this.jobInstances.clear();
+			this.jobInstancesByKey.clear();
+			this.jobExecutions.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Nullable private <K, V> V get(Map<K, V> region, K key) {
+		if (!isEnabled()) {
+			return null;
+		}
+		this.lock.lock();
+		try {
+			return region.get(key);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private <K, V> void put(Map<K, V> region, K key, V value) {
+		if (!isEnabled()) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			region.put(key, value);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/*
+	 * The executions of the instance are not copied, they are not loaded with it.
+	 */
+	private static JobInstance copy(JobInstance jobInstance) {
+		JobInstance copy = new JobInstance(jobInstance.getId(), jobInstance.getJobName());
+		Integer version = jobInstance.getVersion();
+		if (version != null) {
+			copy.setVersion(version);
+		}
+		return copy;
+	}
+
+	private static JobExecution copy(JobExecution jobExecution) {
+		JobExecution copy = new JobExecution(jobExecution.getId(), copy(jobExecution.getJobInstance()),
+				jobExecution.getJobParameters());
+		Integer version = jobExecution.getVersion();
+		if (version != null) {
+			copy.setVersion(version);
+		}
+		copy.setStatus(jobExecution.getStatus());
+		copy.setExitStatus(jobExecution.getExitStatus());
+		copy.setCreateTime(jobExecution.getCreateTime());
+		LocalDateTime startTime = jobExecution.getStartTime();
+		if (startTime != null) {
+			copy.setStartTime(startTime);
+		}
+		LocalDateTime endTime = jobExecution.getEndTime();
+		if (endTime != null) {
+			copy.setEndTime(endTime);
+		}
+		LocalDateTime lastUpdated = jobExecution.getLastUpdated();
+		if (lastUpdated != null) {
+			copy.setLastUpdated(lastUpdated);
+		}
+		copy.setExecutionContext(new ExecutionContext(jobExecution.getExecutionContext()));
+		jobExecution.getFailureExceptions().forEach(copy::addFailureException);
+		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+			copy.addStepExecution(copy(stepExecution, copy));
+		}
+		return copy;
+	}
+
+	private static StepExecution copy(StepExecution stepExecution, JobExecution jobExecution) {
+		StepExecution copy = new StepExecution(stepExecution.getId(), stepExecution.getStepName(), jobExecution);
+		Integer version = stepExecution.getVersion();
+		if (version != null) {
+			copy.setVersion(version);
+		}
+		copy.setStatus(stepExecution.getStatus());
+		copy.setExitStatus(stepExecution.getExitStatus());
+		copy.setReadCount(stepExecution.getReadCount());
+		copy.setWriteCount(stepExecution.getWriteCount());
+		copy.setCommitCount(stepExecution.getCommitCount());
+		copy.setRollbackCount(stepExecution.getRollbackCount());
+		copy.setReadSkipCount(stepExecution.getReadSkipCount());
+		copy.setProcessSkipCount(stepExecution.getProcessSkipCount());
+		copy.setWriteSkipCount(stepExecution.getWriteSkipCount());
+		copy.setFilterCount(stepExecution.getFilterCount());
+		copy.setCreateTime(stepExecution.getCreateTime());
+		LocalDateTime startTime = stepExecution.getStartTime();
+		if (startTime != null) {
+			copy.setStartTime(startTime);
+		}
+		LocalDateTime endTime = stepExecution.getEndTime();
+		if (endTime != null) {
+			copy.setEndTime(endTime);
+		}
+		LocalDateTime lastUpdated = stepExecution.getLastUpdated();
+		if (lastUpdated != null) {
+			copy.setLastUpdated(lastUpdated);
+		}
+		copy.setExecutionContext(new ExecutionContext(stepExecution.getExecutionContext()));
+		stepExecution.getFailureExceptions().forEach(copy::addFailureException);
+		if (stepExecution.isTerminateOnly()) {
+			copy.setTerminateOnly();
+		}
+		return copy;
+	}
+
+	private static <K, V> Map<K, V> createLruMap(int maxSize) {
+		return new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+
+		};
+	}
+
+	private record JobInstanceKey(String jobName, JobParameters jobParameters) {
+	}
+
+}
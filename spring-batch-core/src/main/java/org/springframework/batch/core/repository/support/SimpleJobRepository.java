@@ -135,6 +135,26 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		return stepExecution;
 	}
 
+	@Override
+	public List<StepExecution> createStepExecutions(JobExecution jobExecution, List<String> stepNames,
+			List<ExecutionContext> executionContexts) {
+		Assert.notNull(jobExecution, "JobExecution must not be null.");
+		Assert.isTrue(stepNames.size() == executionContexts.size(),
+				"There must be as many execution contexts as step names");
+		if (stepNames.isEmpty()) {
+			return List.of();
+		}
+
+		List<StepExecution> stepExecutions = stepExecutionDao.createStepExecutions(jobExecution, stepNames);
+		for (int i = 0; i < stepExecutions.size(); i++) {
+			stepExecutions.get(i).setExecutionContext(executionContexts.get(i));
+		}
+		ecDao.saveExecutionContexts(stepExecutions);
+		jobExecution.addStepExecutions(stepExecutions);
+
+		return stepExecutions;
+	}
+
 	@Override
 	public void update(JobExecution jobExecution) {
 
@@ -150,6 +170,7 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 			jobExecution.upgradeStatus(BatchStatus.STOPPED);
 		}
 		jobExecutionDao.updateJobExecution(jobExecution);
+		metadataCache.evictJobExecution(jobExecution.getId());
 	}
 
 	@Override
@@ -159,19 +180,12 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 
 		stepExecution.setLastUpdated(LocalDateTime.now());
 
-		StepExecution latestStepExecution = getStepExecution(stepExecution.getId());
-		Assert.state(latestStepExecution != null,
-				"StepExecution with id " + stepExecution.getId() + "not found. Batch metadata state may be corrupted.");
-
-		if (latestStepExecution.getJobExecution().isStopped()) {
-			Integer version = latestStepExecution.getVersion();
-			if (version != null) {
-				stepExecution.setVersion(version);
-			}
+		// the step execution's version is synchronized if the job execution was stopped
+		if (!stepExecutionDao.updateStepExecutionIfJobNotStopped(stepExecution)) {
 			stepExecution.setTerminateOnly();
+			stepExecutionDao.updateStepExecution(stepExecution);
 		}
-
-		stepExecutionDao.updateStepExecution(stepExecution);
+		metadataCache.evictJobExecution(stepExecution.getJobExecutionId());
 	}
 
 	private void validateStepExecution(StepExecution stepExecution) {
@@ -185,17 +199,20 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 		validateStepExecution(stepExecution);
 		Assert.notNull(stepExecution.getId(), "StepExecution must already be saved (have an id assigned)");
 		ecDao.updateExecutionContext(stepExecution);
+		metadataCache.evictJobExecution(stepExecution.getJobExecutionId());
 	}
 
 	@Override
 	public void updateExecutionContext(JobExecution jobExecution) {
 		ecDao.updateExecutionContext(jobExecution);
+		metadataCache.evictJobExecution(jobExecution.getId());
 	}
 
 	@Override
 	public void deleteStepExecution(StepExecution stepExecution) {
 		this.ecDao.deleteExecutionContext(stepExecution);
 		this.stepExecutionDao.deleteStepExecution(stepExecution);
+		this.metadataCache.evictJobExecution(stepExecution.getJobExecutionId());
 	}
 
 	@Override
@@ -206,6 +223,7 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 			deleteStepExecution(stepExecution);
 		}
 		this.jobExecutionDao.deleteJobExecution(jobExecution);
+		this.metadataCache.evictJobExecution(jobExecution.getId());
 	}
 
 	@Override
@@ -215,6 +233,7 @@ public class SimpleJobRepository extends SimpleJobExplorer implements JobReposit
 			deleteJobExecution(jobExecution);
 		}
 		this.jobInstanceDao.deleteJobInstance(jobInstance);
+		this.metadataCache.evictJobInstance(jobInstance.getId());
 	}
 
 	@Override
@@ -15,6 +15,9 @@
  */
 package org.springframework.batch.core.scope;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -63,7 +66,7 @@ public class JobScope extends BatchScopeSupport {
 
 	private final Log logger = LogFactory.getLog(getClass());
 
-	private final Object mutex = new Object();
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * Context key for clients to use for conversation identifier.
@@ -96,7 +99,8 @@ public class JobScope extends BatchScopeSupport {
 
 		if (scopedObject == null) {
 
-			synchronized (mutex) {
+			this.lock.lock();
+			try {
 				scopedObject = context.getAttribute(name);
 				if (scopedObject == null) {
 
@@ -110,6 +114,9 @@ public class JobScope extends BatchScopeSupport {
 				}
 
 			}
+			finally {
+				this.lock.unlock();
+			}
 
 		}
 		return scopedObject;
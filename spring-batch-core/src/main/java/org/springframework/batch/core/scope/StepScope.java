@@ -15,6 +15,9 @@
  */
 package org.springframework.batch.core.scope;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -70,7 +73,7 @@ public class StepScope extends BatchScopeSupport {
 
 	private final Log logger = LogFactory.getLog(getClass());
 
-	private final Object mutex = new Object();
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * Context key for clients to use for conversation identifier.
@@ -103,7 +106,8 @@ public class StepScope extends BatchScopeSupport {
 
 		if (scopedObject == null) {
 
-			synchronized (mutex) {
+			this.lock.lock();
+			try {
 				scopedObject = context.getAttribute(name);
 				if (scopedObject == null) {
 
@@ -117,6 +121,9 @@ public class StepScope extends BatchScopeSupport {
 				}
 
 			}
+			finally {
+				this.lock.unlock();
+			}
 
 		}
 		return scopedObject;
@@ -47,7 +47,9 @@ import org.springframework.batch.core.listener.StepListenerFactoryBean;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.StepInterruptionPolicy;
 import org.springframework.batch.core.step.ThreadStepInterruptionPolicy;
+import org.springframework.batch.core.step.item.AdaptiveChunkSizePolicy;
 import org.springframework.batch.core.step.item.ChunkOrientedStep;
+import org.springframework.batch.core.step.item.ChunkScanStrategy;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.LimitCheckingExceptionHierarchySkipPolicy;
 import org.springframework.batch.core.step.skip.SkipLimitExceededException;
@@ -61,6 +63,7 @@ import org.springframework.batch.infrastructure.support.transaction.Resourceless
 import org.springframework.core.retry.RetryListener;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
 import org.springframework.transaction.interceptor.TransactionAttribute;
@@ -111,10 +114,24 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 
 	private long skipLimit = 10;
 
+	private ChunkScanStrategy chunkScanStrategy = ChunkScanStrategy.ITEM_BY_ITEM;
+
 	private @Nullable AsyncTaskExecutor asyncTaskExecutor;
 
+	private int concurrencyLimit;
+
+	private boolean preserveItemOrder = true;
+
+	private int pipelineDepth;
+
+	private @Nullable TaskExecutor pipelineTaskExecutor;
+
+	private @Nullable AdaptiveChunkSizePolicy adaptiveChunkSizePolicy;
+
 	private @Nullable ObservationRegistry observationRegistry;
 
+	private boolean itemObservations;
+
 	ChunkOrientedStepBuilder(StepBuilderHelper<?> parent, int chunkSize) {
 		super(parent);
 		this.chunkSize = chunkSize;
@@ -166,6 +183,7 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 	 * implements the corresponding interface.
 	 * @param processor an item processor
 	 * @return this for fluent chaining
+	 * @see ChunkOrientedStep#setItemProcessor(ItemProcessor)
 	 */
 	public ChunkOrientedStepBuilder<I, O> processor(ItemProcessor<I, O> processor) {
 		this.processor = processor;
@@ -339,6 +357,22 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Set the strategy used to find the items that cannot be written when writing a chunk
+	 * failed and the failure is skippable. {@link ChunkScanStrategy#BISECTION} isolates
+	 * failing items with far fewer write operations than the default
+	 * {@link ChunkScanStrategy#ITEM_BY_ITEM} strategy when failures are rare. Defaults to
+	 * {@link ChunkScanStrategy#ITEM_BY_ITEM}.
+	 * @param chunkScanStrategy the chunk scan strategy to use
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 */
+	public ChunkOrientedStepBuilder<I, O> chunkScanStrategy(ChunkScanStrategy chunkScanStrategy) {
+		Assert.notNull(chunkScanStrategy, "chunkScanStrategy must not be null");
+		this.chunkScanStrategy = chunkScanStrategy;
+		return self();
+	}
+
 	/**
 	 * Add a skip listener to the step. Skip listeners are notified when an item is
 	 * skipped due to a failure or an error. They can be used to implement custom skip
@@ -383,6 +417,78 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Set the maximum number of items processed concurrently by the task executor.
+	 * Reading is paused while this limit is reached. Defaults to no limit.
+	 * @param concurrencyLimit the maximum number of items processed concurrently
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setConcurrencyLimit(int)
+	 */
+	public ChunkOrientedStepBuilder<I, O> concurrencyLimit(int concurrencyLimit) {
+		this.concurrencyLimit = concurrencyLimit;
+		return self();
+	}
+
+	/**
+	 * Set whether items processed concurrently should be written in the order they were
+	 * read (the default) or in the order their processing completed.
+	 * @param preserveItemOrder true to write items in the order they were read
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setPreserveItemOrder(boolean)
+	 */
+	public ChunkOrientedStepBuilder<I, O> preserveItemOrder(boolean preserveItemOrder) {
+		this.preserveItemOrder = preserveItemOrder;
+		return self();
+	}
+
+	/**
+	 * Read and process the next chunks on a dedicated thread while the current chunk is
+	 * written and committed, with at most {@code pipelineDepth} chunks read ahead. This
+	 * overlaps the I/O of the item reader with the I/O of the item writer. Can not be
+	 * combined with {@link #taskExecutor(AsyncTaskExecutor)}.
+	 * @param pipelineDepth the maximum number of chunks read ahead of the chunk being
+	 * written
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setPipelineDepth(int)
+	 */
+	public ChunkOrientedStepBuilder<I, O> pipelined(int pipelineDepth) {
+		this.pipelineDepth = pipelineDepth;
+		return self();
+	}
+
+	/**
+	 * Set the task executor used to read and process chunks ahead when the step is
+	 * {@link #pipelined(int) pipelined}. The executor must run the task on another
+	 * thread. Defaults to a {@code SimpleAsyncTaskExecutor} created for the step.
+	 * @param pipelineTaskExecutor the task executor to use
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setPipelineTaskExecutor(TaskExecutor)
+	 */
+	public ChunkOrientedStepBuilder<I, O> pipelineTaskExecutor(TaskExecutor pipelineTaskExecutor) {
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+		return self();
+	}
+
+	/**
+	 * Adapt the chunk size at runtime so that chunk transactions last about the target
+	 * duration of the given policy. The chunk size of this builder is used as the initial
+	 * chunk size, and the current chunk size is saved in the execution context so that a
+	 * restarted step resumes with it.
+	 * @param adaptiveChunkSizePolicy the policy to adapt the chunk size
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setAdaptiveChunkSizePolicy(AdaptiveChunkSizePolicy)
+	 */
+	public ChunkOrientedStepBuilder<I, O> adaptiveChunkSizePolicy(AdaptiveChunkSizePolicy adaptiveChunkSizePolicy) {
+		Assert.notNull(adaptiveChunkSizePolicy, "adaptiveChunkSizePolicy must not be null");
+		this.adaptiveChunkSizePolicy = adaptiveChunkSizePolicy;
+		return self();
+	}
+
 	/**
 	 * Set the observation registry to be used for collecting metrics during step
 	 * execution. This allows for monitoring and analyzing the performance of the step. If
@@ -395,6 +501,20 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		return self();
 	}
 
+	/**
+	 * Set whether each item read and processed should be observed individually. By
+	 * default, the reading and the processing of a chunk are observed as a whole to avoid
+	 * creating observations for each item. Defaults to false.
+	 * @param itemObservations true to observe each item individually
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see ChunkOrientedStep#setItemObservationsEnabled(boolean)
+	 */
+	public ChunkOrientedStepBuilder<I, O> itemObservations(boolean itemObservations) {
+		this.itemObservations = itemObservations;
+		return self();
+	}
+
 	@SuppressWarnings("unchecked")
 	public ChunkOrientedStep<I, O> build() {
 		Assert.notNull(this.reader, "Item reader must not be null");
@@ -435,10 +555,20 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 			}
 		}
 		chunkOrientedStep.setSkipPolicy(this.skipPolicy);
+		chunkOrientedStep.setChunkScanStrategy(this.chunkScanStrategy);
 		chunkOrientedStep.setFaultTolerant(this.faultTolerant);
 		if (this.asyncTaskExecutor != null) {
 			chunkOrientedStep.setTaskExecutor(this.asyncTaskExecutor);
 		}
+		chunkOrientedStep.setConcurrencyLimit(this.concurrencyLimit);
+		chunkOrientedStep.setPreserveItemOrder(this.preserveItemOrder);
+		chunkOrientedStep.setPipelineDepth(this.pipelineDepth);
+		if (this.pipelineTaskExecutor != null) {
+			chunkOrientedStep.setPipelineTaskExecutor(this.pipelineTaskExecutor);
+		}
+		if (this.adaptiveChunkSizePolicy != null) {
+			chunkOrientedStep.setAdaptiveChunkSizePolicy(this.adaptiveChunkSizePolicy);
+		}
 		streams.forEach(chunkOrientedStep::registerItemStream);
 		stepListeners.forEach(stepListener -> {
 			if (stepListener instanceof ItemReadListener listener) {
@@ -462,6 +592,7 @@ public class ChunkOrientedStepBuilder<I, O> extends StepBuilderHelper<ChunkOrien
 		if (this.observationRegistry != null) {
 			chunkOrientedStep.setObservationRegistry(this.observationRegistry);
 		}
+		chunkOrientedStep.setItemObservationsEnabled(this.itemObservations);
 		try {
 			chunkOrientedStep.afterPropertiesSet();
 		}
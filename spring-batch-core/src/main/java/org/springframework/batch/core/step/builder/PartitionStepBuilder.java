@@ -27,6 +27,8 @@ import org.springframework.batch.core.partition.StepExecutionAggregator;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.util.Assert;
 
 /**
  * Step builder for {@link PartitionStep} instances. A partition step executes the same
@@ -60,6 +62,8 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 
 	private String stepName;
 
+	private int concurrencyLimit;
+
 	/**
 	 * Create a new builder initialized with any properties in the parent. The parent is
 	 * copied, so it can be re-used.
@@ -109,6 +113,51 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 		return this;
 	}
 
+	/**
+	 * Limit the number of partitions handed to the {@link #taskExecutor(TaskExecutor)
+	 * task executor} at the same time, each new partition waiting for a running one to
+	 * complete. The limit applies to whichever task executor is used, whether it is set
+	 * before or after this method is called. It is set by {@link #virtualThreads(int)},
+	 * and is kept if another task executor is set afterwards: call this method with
+	 * {@code 0} to remove it. Not used if an explicit
+	 * {@link #partitionHandler(PartitionHandler)} is provided.
+	 * @param concurrencyLimit the maximum number of partitions running at the same time,
+	 * {@code 0} for no limit (the default)
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see TaskExecutorPartitionHandler#setConcurrencyLimit(int)
+	 */
+	public PartitionStepBuilder concurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit >= 0, "Concurrency limit must not be negative");
+		this.concurrencyLimit = concurrencyLimit;
+		return this;
+	}
+
+	/**
+	 * Execute each partition locally on its own virtual thread, with at most
+	 * {@code concurrencyLimit} partitions running at the same time. This allows running a
+	 * large number of I/O-bound partitions without sizing a thread pool. The limit should
+	 * not exceed the size of the connection pool of the data source used by the
+	 * partitions, so that partitions wait for a permit instead of for a connection.
+	 * Requires Java 21 or later. Not used if an explicit
+	 * {@link #partitionHandler(PartitionHandler)} is provided.
+	 * <p>
+	 * This is a shortcut for setting a {@link VirtualThreadTaskExecutor} with
+	 * {@link #taskExecutor(TaskExecutor)} and the limit with
+	 * {@link #concurrencyLimit(int)}. A task executor set afterwards replaces the virtual
+	 * thread executor but keeps the limit.
+	 * @param concurrencyLimit the maximum number of partitions running at the same time,
+	 * must be greater than 0
+	 * @return this for fluent chaining
+	 * @since 6.0.2
+	 * @see TaskExecutorPartitionHandler#setConcurrencyLimit(int)
+	 */
+	public PartitionStepBuilder virtualThreads(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit > 0, "Concurrency limit must be greater than 0");
+		return taskExecutor(new VirtualThreadTaskExecutor(getName() + "-partition-"))
+			.concurrencyLimit(concurrencyLimit);
+	}
+
 	/**
 	 * Provide an explicit partition handler that will carry out the work of the partition
 	 * step. The partition handler is the main SPI for adapting a partition step to a
@@ -178,6 +227,7 @@ public class PartitionStepBuilder extends StepBuilderHelper<PartitionStepBuilder
 			}
 			partitionHandler.setGridSize(gridSize);
 			partitionHandler.setTaskExecutor(taskExecutor);
+			partitionHandler.setConcurrencyLimit(concurrencyLimit);
 			step.setPartitionHandler(partitionHandler);
 		}
 
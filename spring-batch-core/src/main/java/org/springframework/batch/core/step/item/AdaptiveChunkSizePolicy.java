@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy used by a {@link ChunkOrientedStep} to adapt the size of its chunks at runtime
+ * so that each chunk transaction lasts about a target duration. After each chunk, the
+ * time spent per item in that chunk is used to estimate the number of items that fit in
+ * the target duration, and the next chunk size moves half way towards that estimate,
+ * within {@code [minChunkSize, maxChunkSize]}. Moving half way damps the effect of a
+ * single slow or fast chunk, and the chunk size can at most double from one chunk to the
+ * next.
+ * <p>
+ * This class is stateless and thread-safe: the current chunk size is held by each step
+ * execution and saved in its execution context, so that a restarted step resumes with the
+ * last chunk size instead of starting over from the initial one.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+public class AdaptiveChunkSizePolicy {
+
+	private final int minChunkSize;
+
+	private final int maxChunkSize;
+
+	private final long targetDurationNanos;
+
+	/**
+	 * Create a new {@link AdaptiveChunkSizePolicy}.
+	 * @param minChunkSize the minimum chunk size, must be greater than 0
+	 * @param maxChunkSize the maximum chunk size, must not be less than
+	 * {@code minChunkSize}
+	 * @param targetDuration the target duration of a chunk transaction, must be positive
+	 */
+	public AdaptiveChunkSizePolicy(int minChunkSize, int maxChunkSize, Duration targetDuration) {
+		Assert.isTrue(minChunkSize > 0, "Min chunk size must be greater than 0");
+		Assert.isTrue(maxChunkSize >= minChunkSize, "Max chunk size must not be less than min chunk size");
+		Assert.notNull(targetDuration, "Target duration must not be null");
+		Assert.isTrue(!targetDuration.isNegative() && !targetDuration.isZero(), "Target duration must be positive");
+		this.minChunkSize = minChunkSize;
+		this.maxChunkSize = maxChunkSize;
+		this.targetDurationNanos = targetDuration.toNanos();
+	}
+
+	/**
+	 * @return the minimum chunk size
+	 */
+	public int getMinChunkSize() {
+		return this.minChunkSize;
+	}
+
+	/**
+	 * @return the maximum chunk size
+	 */
+	public int getMaxChunkSize() {
+		return this.maxChunkSize;
+	}
+
+	/**
+	 * Compute the size of the next chunk.
+	 * @param currentChunkSize the size the last chunk was read with
+	 * @param itemCount the number of items of the last chunk
+	 * @param chunkDuration the duration of the last chunk transaction
+	 * @return the size of the next chunk, within {@code [minChunkSize, maxChunkSize]}
+	 */
+	public int computeChunkSize(int currentChunkSize, long itemCount, Duration chunkDuration) {
+		if (itemCount <= 0) {
+			return bound(currentChunkSize);
+		}
+		long nanosPerItem = Math.max(1, chunkDuration.toNanos() / itemCount);
+		long idealChunkSize = this.targetDurationNanos / nanosPerItem;
+		long nextChunkSize = Math.min((currentChunkSize + idealChunkSize) / 2, 2L * currentChunkSize);
+		return bound(nextChunkSize);
+	}
+
+	/**
+	 * Bound the given chunk size to {@code [minChunkSize, maxChunkSize]}.
+	 * @param chunkSize the chunk size to bound
+	 * @return the bounded chunk size
+	 */
+	public int bound(long chunkSize) {
+		return (int) Math.max(this.minChunkSize, Math.min(this.maxChunkSize, chunkSize));
+	}
+
+}
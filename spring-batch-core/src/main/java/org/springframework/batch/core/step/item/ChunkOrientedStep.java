@@ -15,11 +15,22 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
 
 import io.micrometer.observation.Observation;
+import jdk.jfr.EventType;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
@@ -58,6 +69,7 @@ import org.springframework.batch.core.step.skip.NonSkippableWriteException;
 import org.springframework.batch.core.step.skip.SkipPolicy;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ChunkAwareItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemStream;
@@ -71,6 +83,8 @@ import org.springframework.core.retry.RetryTemplate;
 import org.springframework.core.retry.Retryable;
 import org.springframework.core.retry.support.CompositeRetryListener;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
@@ -93,8 +107,31 @@ import static org.springframework.batch.core.observability.BatchMetrics.METRICS_
  */
 public class ChunkOrientedStep<I, O> extends AbstractStep {
 
+	/**
+	 * Key of the current chunk size in the step execution context when an
+	 * {@link AdaptiveChunkSizePolicy} is used.
+	 * @since 6.0.2
+	 */
+	public static final String CHUNK_SIZE_KEY = "batch.chunkSize";
+
 	private static final Log logger = LogFactory.getLog(ChunkOrientedStep.class.getName());
 
+	private static final EventType ITEM_READ_EVENT_TYPE = EventType.getEventType(ItemReadEvent.class);
+
+	private static final EventType ITEM_PROCESS_EVENT_TYPE = EventType.getEventType(ItemProcessEvent.class);
+
+	private static final EventType CHUNK_WRITE_EVENT_TYPE = EventType.getEventType(ChunkWriteEvent.class);
+
+	private static final MetricNames ITEM_READ_METRIC = new MetricNames(METRICS_PREFIX + "item.read");
+
+	private static final MetricNames ITEM_PROCESS_METRIC = new MetricNames(METRICS_PREFIX + "item.process");
+
+	private static final MetricNames CHUNK_READ_METRIC = new MetricNames(METRICS_PREFIX + "chunk.read");
+
+	private static final MetricNames CHUNK_PROCESS_METRIC = new MetricNames(METRICS_PREFIX + "chunk.process");
+
+	private static final MetricNames CHUNK_WRITE_METRIC = new MetricNames(METRICS_PREFIX + "chunk.write");
+
 	/*
 	 * Step Input / Output parameters
 	 */
@@ -133,7 +170,7 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	 */
 	private final int chunkSize;
 
-	private final ThreadLocal<ChunkTracker> chunkTracker = ThreadLocal.withInitial(ChunkTracker::new);
+	private @Nullable AdaptiveChunkSizePolicy adaptiveChunkSizePolicy;
 
 	private final CompositeChunkListener<I, O> compositeChunkListener = new CompositeChunkListener<>();
 
@@ -152,12 +189,33 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 
 	private final CompositeSkipListener<I, O> compositeSkipListener = new CompositeSkipListener<>();
 
+	private ChunkScanStrategy chunkScanStrategy = ChunkScanStrategy.ITEM_BY_ITEM;
+
 	/*
 	 * Concurrency parameters
 	 */
 	@SuppressWarnings("NullAway.Init")
 	private AsyncTaskExecutor taskExecutor;
 
+	private int concurrencyLimit = 0;
+
+	private boolean preserveItemOrder = true;
+
+	/*
+	 * Pipelining parameters
+	 */
+	private int pipelineDepth = 0;
+
+	@SuppressWarnings("NullAway.Init")
+	private TaskExecutor pipelineTaskExecutor;
+
+	private final CompositeItemStream nonReaderItemStream = new CompositeItemStream();
+
+	/*
+	 * Observability parameters
+	 */
+	private boolean itemObservationsEnabled = false;
+
 	/**
 	 * Create a new {@link ChunkOrientedStep}.
 	 * @param name the name of the step
@@ -176,7 +234,12 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	/**
-	 * Set the item processor to use for processing items.
+	 * Set the item processor to use for processing items. If the item processor is a
+	 * {@link ChunkAwareItemProcessor}, the items of each chunk are processed with a
+	 * single call to {@link ChunkAwareItemProcessor#process(Chunk)}, and processed one by
+	 * one only if that call fails, so that the failing item can be retried or skipped.
+	 * Items are always processed one by one when a task executor is set to process them
+	 * concurrently.
 	 * @param itemProcessor the item processor to set
 	 */
 	public void setItemProcessor(ItemProcessor<I, O> itemProcessor) {
@@ -202,6 +265,9 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	public void registerItemStream(ItemStream stream) {
 		Assert.notNull(stream, "Item stream must not be null");
 		this.compositeItemStream.register(stream);
+		if (stream != this.itemReader) {
+			this.nonReaderItemStream.register(stream);
+		}
 	}
 
 	/**
@@ -279,6 +345,108 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		this.taskExecutor = asyncTaskExecutor;
 	}
 
+	/**
+	 * Set the maximum number of items being processed concurrently when a task executor
+	 * is set. Once the limit is reached, reading is paused until an item has been
+	 * processed, so that the queue of the task executor never holds more than
+	 * {@code concurrencyLimit} items. Defaults to {@code 0}, i.e. all items of a chunk
+	 * are submitted to the task executor as soon as they are read.
+	 * @param concurrencyLimit the maximum number of items processed concurrently,
+	 * {@code 0} for no limit
+	 * @since 6.0.2
+	 */
+	public void setConcurrencyLimit(int concurrencyLimit) {
+		Assert.isTrue(concurrencyLimit >= 0, "Concurrency limit must not be negative");
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * Set whether processed items should be written in the order they were read when a
+	 * task executor is set. If set to false, processed items are collected as soon as
+	 * they are available and written in the order their processing completed, so that a
+	 * slow item does not delay the collection of the other items of the chunk. Defaults
+	 * to true.
+	 * @param preserveItemOrder true to write items in the order they were read, false to
+	 * write them in the order their processing completed
+	 * @since 6.0.2
+	 */
+	public void setPreserveItemOrder(boolean preserveItemOrder) {
+		this.preserveItemOrder = preserveItemOrder;
+	}
+
+	/**
+	 * Set the policy to adapt the chunk size at runtime based on the duration of chunk
+	 * transactions. The chunk size given at construction time is used as the initial
+	 * chunk size. The current chunk size is saved in the execution context under
+	 * {@link #CHUNK_SIZE_KEY} and used as the initial chunk size on restart. Defaults to
+	 * {@code null}, i.e. all chunks have the same size.
+	 * @param adaptiveChunkSizePolicy the policy to adapt the chunk size
+	 * @since 6.0.2
+	 */
+	public void setAdaptiveChunkSizePolicy(AdaptiveChunkSizePolicy adaptiveChunkSizePolicy) {
+		Assert.notNull(adaptiveChunkSizePolicy, "Adaptive chunk size policy must not be null");
+		this.adaptiveChunkSizePolicy = adaptiveChunkSizePolicy;
+	}
+
+	/**
+	 * Set whether an observation should be created for each item read and processed when
+	 * an observation registry is set. By default, the reading and the processing of a
+	 * chunk are observed as a whole ({@code spring.batch.chunk.read} and
+	 * {@code spring.batch.chunk.process}), which avoids creating two observations per
+	 * item. When set to true, items are observed individually instead
+	 * ({@code spring.batch.item.read} and {@code spring.batch.item.process}). Items are
+	 * always observed individually in concurrent mode. Defaults to false.
+	 * @param itemObservationsEnabled true to observe each item individually
+	 * @since 6.0.2
+	 */
+	public void setItemObservationsEnabled(boolean itemObservationsEnabled) {
+		this.itemObservationsEnabled = itemObservationsEnabled;
+	}
+
+	/**
+	 * Enable pipelined chunk processing: the next chunks are read and processed by a
+	 * dedicated thread while the current chunk is written and committed. At most
+	 * {@code pipelineDepth} chunks can be read and processed ahead of the chunk being
+	 * written. Defaults to {@code 0}, i.e. chunks are read, processed and written one
+	 * after the other on the step thread.
+	 * <p>
+	 * When pipelining is enabled:
+	 * <ul>
+	 * <li>items are read and processed outside of the chunk transaction and on a
+	 * different thread than the one writing items, so the item reader must not rely on
+	 * the chunk transaction (for example a cursor sharing the connection of the
+	 * transaction)</li>
+	 * <li>the state of the item reader is captured right after reading each chunk and is
+	 * saved in the execution context only when that chunk is committed, so a restart
+	 * never skips items of chunks that were read ahead but not committed. This applies to
+	 * the item reader of the step, streams registered separately are updated when each
+	 * chunk is committed</li>
+	 * <li>chunk listeners are notified before a chunk on the reading thread and after a
+	 * chunk on the writing thread, so they must be thread-safe</li>
+	 * </ul>
+	 * Pipelining can not be combined with concurrent item processing.
+	 * @param pipelineDepth the maximum number of chunks read ahead of the chunk being
+	 * written, {@code 0} to disable pipelining
+	 * @since 6.0.2
+	 */
+	public void setPipelineDepth(int pipelineDepth) {
+		Assert.isTrue(pipelineDepth >= 0, "Pipeline depth must not be negative");
+		this.pipelineDepth = pipelineDepth;
+	}
+
+	/**
+	 * Set the {@link TaskExecutor} used to read and process chunks ahead when pipelining
+	 * is enabled. The executor must run the task on another thread than the one
+	 * submitting it. Defaults to a {@link SimpleAsyncTaskExecutor} created for this step.
+	 * @param pipelineTaskExecutor the task executor to set
+	 * @since 6.0.2
+	 * @see #setPipelineDepth(int)
+	 */
+	public void setPipelineTaskExecutor(TaskExecutor pipelineTaskExecutor) {
+		Assert.notNull(pipelineTaskExecutor, "Pipeline task executor must not be null");
+		this.pipelineTaskExecutor = pipelineTaskExecutor;
+	}
+
 	/**
 	 * Set the {@link RetryPolicy} for this step.
 	 * @param retryPolicy the retry policy to set
@@ -309,6 +477,17 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		this.skipPolicy = skipPolicy;
 	}
 
+	/**
+	 * Set the strategy used to find the items that cannot be written when writing a chunk
+	 * failed in fault-tolerant mode. Defaults to {@link ChunkScanStrategy#ITEM_BY_ITEM}.
+	 * @param chunkScanStrategy the chunk scan strategy to use
+	 * @since 6.0.2
+	 */
+	public void setChunkScanStrategy(ChunkScanStrategy chunkScanStrategy) {
+		Assert.notNull(chunkScanStrategy, "Chunk scan strategy must not be null");
+		this.chunkScanStrategy = chunkScanStrategy;
+	}
+
 	/**
 	 * register a {@link SkipListener} to be notified of item skip events.
 	 * @param skipListener the skip listener to register
@@ -332,14 +511,19 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		Assert.isTrue(this.chunkSize > 0, "Chunk size must be greater than 0");
 		Assert.notNull(this.itemReader, "Item reader must not be null");
 		Assert.notNull(this.itemWriter, "Item writer must not be null");
+		Assert.state(!(isPipelined() && isConcurrent()),
+				"Pipelined chunk processing can not be combined with concurrent item processing");
+		if (isPipelined() && this.pipelineTaskExecutor == null) {
+			this.pipelineTaskExecutor = new SimpleAsyncTaskExecutor(getName() + "-reader-");
+		}
 		if (this.itemReader instanceof ItemStream itemStream) {
 			this.compositeItemStream.register(itemStream);
 		}
 		if (this.itemWriter instanceof ItemStream itemStream) {
-			this.compositeItemStream.register(itemStream);
+			registerItemStream(itemStream);
 		}
 		if (this.itemProcessor instanceof ItemStream itemStream) {
-			this.compositeItemStream.register(itemStream);
+			registerItemStream(itemStream);
 		}
 		this.transactionTemplate = new TransactionTemplate(this.transactionManager, this.transactionAttribute);
 		if (this.faultTolerant) {
@@ -351,55 +535,112 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	@Override
 	protected void open(ExecutionContext executionContext) throws Exception {
 		this.compositeItemStream.open(executionContext);
-		this.chunkTracker.get().init();
 	}
 
 	@Override
 	protected void close(ExecutionContext executionContext) throws Exception {
-		this.chunkTracker.get().reset();
 		this.compositeItemStream.close();
 	}
 
 	@Override
 	protected void doExecute(StepExecution stepExecution) throws Exception {
 		stepExecution.getExecutionContext().put(STEP_TYPE_KEY, this.getClass().getName());
-		while (this.chunkTracker.get().moreItems() && !interrupted(stepExecution)) {
+		ChunkProcessingContext context = new ChunkProcessingContext(getInitialChunkSize(stepExecution),
+				!this.observationRegistry.isNoop());
+		if (isPipelined()) {
+			doExecutePipelined(stepExecution, context);
+			return;
+		}
+		while (context.moreItems() && !interrupted(stepExecution)) {
+			long readCount = stepExecution.getReadCount();
+			long start = System.nanoTime();
 			// process next chunk in its own transaction
 			this.transactionTemplate.executeWithoutResult(transactionStatus -> {
 				ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
 						stepExecution.getId());
 				chunkTransactionEvent.begin();
 				StepContribution contribution = stepExecution.createStepContribution();
-				processNextChunk(transactionStatus, contribution, stepExecution);
+				processNextChunk(transactionStatus, contribution, stepExecution, context);
 				chunkTransactionEvent.transactionStatus = transactionStatus.isRollbackOnly()
 						? BatchMetrics.STATUS_ROLLED_BACK : BatchMetrics.STATUS_COMMITTED;
 				chunkTransactionEvent.commit();
 			});
+			adaptChunkSize(stepExecution, context, stepExecution.getReadCount() - readCount, start);
 
 			getJobRepository().update(stepExecution);
 		}
 	}
 
-	private void processNextChunk(TransactionStatus status, StepContribution contribution,
-			StepExecution stepExecution) {
+	private int getInitialChunkSize(StepExecution stepExecution) {
+		if (this.adaptiveChunkSizePolicy == null) {
+			return this.chunkSize;
+		}
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		int initialChunkSize = this.adaptiveChunkSizePolicy
+			.bound(executionContext.getInt(CHUNK_SIZE_KEY, this.chunkSize));
+		executionContext.putInt(CHUNK_SIZE_KEY, initialChunkSize);
+		return initialChunkSize;
+	}
+
+	/*
+	 * Compute the size of the next chunk from the duration of the last chunk transaction
+	 * (including its commit). The new size is saved with the next chunk.
+	 */
+	private void adaptChunkSize(StepExecution stepExecution, ChunkProcessingContext context, long itemCount,
+			long start) {
+		if (this.adaptiveChunkSizePolicy == null) {
+			return;
+		}
+		Duration chunkDuration = Duration.ofNanos(System.nanoTime() - start);
+		int nextChunkSize = this.adaptiveChunkSizePolicy.computeChunkSize(context.chunkSize(), itemCount,
+				chunkDuration);
+		if (nextChunkSize != context.chunkSize()) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Adapting chunk size from " + context.chunkSize() + " to " + nextChunkSize
+						+ " after a chunk of " + itemCount + " items committed in " + chunkDuration.toMillis() + "ms");
+			}
+			context.setChunkSize(nextChunkSize);
+			stepExecution.getExecutionContext().putInt(CHUNK_SIZE_KEY, nextChunkSize);
+		}
+	}
+
+	private void processNextChunk(TransactionStatus status, StepContribution contribution, StepExecution stepExecution,
+			ChunkProcessingContext context) {
 		if (isConcurrent()) {
-			processChunkConcurrently(status, contribution, stepExecution);
+			processChunkConcurrently(status, contribution, stepExecution, context);
 		}
 		else {
-			processChunkSequentially(status, contribution, stepExecution);
+			processChunkSequentially(status, contribution, stepExecution, context);
 		}
 	}
 
 	private void processChunkConcurrently(TransactionStatus status, StepContribution contribution,
-			StepExecution stepExecution) {
+			StepExecution stepExecution, ChunkProcessingContext context) {
 		List<Future<O>> itemProcessingTasks = new LinkedList<>();
+		ExecutorCompletionService<O> completionService = new ExecutorCompletionService<>(this.taskExecutor);
+		Semaphore inFlightItems = this.concurrencyLimit > 0 ? new Semaphore(this.concurrencyLimit) : null;
 		try {
 			// read items and submit concurrent item processing tasks
-			for (int i = 0; i < this.chunkSize && this.chunkTracker.get().moreItems(); i++) {
-				I item = readItem(contribution);
+			int chunkSize = context.chunkSize();
+			for (int i = 0; i < chunkSize && context.moreItems(); i++) {
+				I item = readItem(contribution, context);
 				if (item != null) {
-					Future<O> itemProcessingFuture = this.taskExecutor.submit(() -> processItem(item, contribution));
-					itemProcessingTasks.add(itemProcessingFuture);
+					if (inFlightItems != null) {
+						// wait for an item to be processed before submitting another one
+						inFlightItems.acquire();
+					}
+					Callable<O> itemProcessingTask = () -> {
+						try {
+							return processItem(item, contribution, context, true);
+						}
+						finally {
+							if (inFlightItems != null) {
+								inFlightItems.release();
+							}
+						}
+					};
+					itemProcessingTasks.add(this.preserveItemOrder ? this.taskExecutor.submit(itemProcessingTask)
+							: completionService.submit(itemProcessingTask));
 				}
 			}
 			// exclude empty chunks (when the total items is a multiple of the chunk size)
@@ -407,17 +648,17 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 				return;
 			}
 
-			// collect processed items
+			// collect processed items, in reading or completion order
 			Chunk<O> processedChunk = new Chunk<>();
 			for (Future<O> future : itemProcessingTasks) {
-				O processedItem = future.get();
+				O processedItem = this.preserveItemOrder ? future.get() : completionService.take().get();
 				if (processedItem != null) {
 					processedChunk.add(processedItem);
 				}
 			}
 
 			// write processed items
-			writeChunk(processedChunk, contribution);
+			writeChunk(processedChunk, contribution, context);
 			stepExecution.incrementCommitCount();
 		}
 		catch (Exception e) {
@@ -436,17 +677,17 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	private void processChunkSequentially(TransactionStatus status, StepContribution contribution,
-			StepExecution stepExecution) {
+			StepExecution stepExecution, ChunkProcessingContext context) {
 		Chunk<I> inputChunk = new Chunk<>();
 		Chunk<O> processedChunk = new Chunk<>();
 		try {
-			inputChunk = readChunk(contribution);
+			inputChunk = readChunk(contribution, context);
 			if (inputChunk.isEmpty()) {
 				return;
 			}
 			compositeChunkListener.beforeChunk(inputChunk);
-			processedChunk = processChunk(inputChunk, contribution);
-			writeChunk(processedChunk, contribution);
+			processedChunk = processChunk(inputChunk, contribution, context);
+			writeChunk(processedChunk, contribution, context);
 			compositeChunkListener.afterChunk(processedChunk);
 			stepExecution.incrementCommitCount();
 		}
@@ -465,6 +706,131 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
+	private void doExecutePipelined(StepExecution stepExecution, ChunkProcessingContext context) throws Exception {
+		BlockingQueue<PipelinedChunk<O>> pipeline = new ArrayBlockingQueue<>(this.pipelineDepth);
+		FutureTask<Void> reader = new FutureTask<>(() -> readAndProcessChunks(stepExecution, context, pipeline), null);
+		// counted down even if the reader is cancelled before it starts
+		CountDownLatch readerDone = new CountDownLatch(1);
+		this.pipelineTaskExecutor.execute(() -> {
+			try {
+				reader.run();
+			}
+			finally {
+				readerDone.countDown();
+			}
+		});
+		try {
+			while (!interrupted(stepExecution)) {
+				PipelinedChunk<O> pipelinedChunk = pipeline.take();
+				if (pipelinedChunk.last()) {
+					break;
+				}
+				Throwable failure = pipelinedChunk.failure();
+				if (failure != null) {
+					logger.error("Unable to read or process chunk", failure);
+					stepExecution.incrementRollbackCount();
+					stepExecution.apply(pipelinedChunk.contribution());
+					if (failure instanceof Error error) {
+						// rethrown as in the non pipelined mode
+						throw error;
+					}
+					Exception exception = (Exception) failure;
+					this.compositeChunkListener.onChunkError(exception, new Chunk<>());
+					throw new FatalStepExecutionException("Unable to process chunk", exception);
+				}
+				long start = System.nanoTime();
+				// write chunk in its own transaction
+				this.transactionTemplate.executeWithoutResult(transactionStatus -> {
+					ChunkTransactionEvent chunkTransactionEvent = new ChunkTransactionEvent(stepExecution.getStepName(),
+							stepExecution.getId());
+					chunkTransactionEvent.begin();
+					writePipelinedChunk(transactionStatus, pipelinedChunk, stepExecution, context);
+					chunkTransactionEvent.transactionStatus = transactionStatus.isRollbackOnly()
+							? BatchMetrics.STATUS_ROLLED_BACK : BatchMetrics.STATUS_COMMITTED;
+					chunkTransactionEvent.commit();
+				});
+				adaptChunkSize(stepExecution, context, pipelinedChunk.contribution().getReadCount(), start);
+
+				getJobRepository().update(stepExecution);
+			}
+		}
+		finally {
+			// stop reading ahead and wait for the reader thread before closing streams
+			reader.cancel(true);
+			pipeline.clear();
+			readerDone.await();
+		}
+	}
+
+	private void readAndProcessChunks(StepExecution stepExecution, ChunkProcessingContext context,
+			BlockingQueue<PipelinedChunk<O>> pipeline) {
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			while (context.moreItems()) {
+				StepContribution contribution = stepExecution.createStepContribution();
+				PipelinedChunk<O> pipelinedChunk;
+				try {
+					Chunk<I> inputChunk = readChunk(contribution, context);
+					if (inputChunk.isEmpty()) {
+						break;
+					}
+					ExecutionContext readerState = new ExecutionContext();
+					if (this.itemReader instanceof ItemStream itemStream) {
+						itemStream.update(readerState);
+					}
+					this.compositeChunkListener.beforeChunk(inputChunk);
+					Chunk<O> processedChunk = processChunk(inputChunk, contribution, context);
+					pipelinedChunk = new PipelinedChunk<>(processedChunk, contribution, readerState, null, false);
+				}
+				catch (Throwable e) {
+					// errors are handed over as well, the step thread would otherwise
+					// wait forever for the next chunk
+					pipeline.put(new PipelinedChunk<>(new Chunk<>(), contribution, new ExecutionContext(), e, false));
+					return;
+				}
+				pipeline.put(pipelinedChunk);
+			}
+			pipeline.put(new PipelinedChunk<>(new Chunk<>(), stepExecution.createStepContribution(),
+					new ExecutionContext(), null, true));
+		}
+		catch (InterruptedException e) {
+			// the step stopped consuming chunks
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+	}
+
+	private void writePipelinedChunk(TransactionStatus status, PipelinedChunk<O> pipelinedChunk,
+			StepExecution stepExecution, ChunkProcessingContext context) {
+		Chunk<O> processedChunk = pipelinedChunk.processedChunk();
+		StepContribution contribution = pipelinedChunk.contribution();
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		try {
+			writeChunk(processedChunk, contribution, context);
+			this.compositeChunkListener.afterChunk(processedChunk);
+			stepExecution.incrementCommitCount();
+			// the reader has possibly read ahead, only save its state as of this chunk
+			for (Map.Entry<String, Object> entry : pipelinedChunk.readerState().entrySet()) {
+				executionContext.put(entry.getKey(), entry.getValue());
+			}
+		}
+		catch (Exception e) {
+			logger.error("Rolling back chunk transaction", e);
+			status.setRollbackOnly();
+			stepExecution.incrementRollbackCount();
+			this.compositeChunkListener.onChunkError(e, processedChunk);
+			throw new FatalStepExecutionException("Unable to process chunk", e);
+		}
+		finally {
+			// apply contribution and update other streams
+			stepExecution.apply(contribution);
+			this.nonReaderItemStream.update(executionContext);
+			getJobRepository().updateExecutionContext(stepExecution);
+		}
+	}
+
 	/*
 	 * Check if the step has been interrupted either internally via user defined policy or
 	 * externally via job operator. This will be checked at chunk boundaries.
@@ -484,43 +850,55 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		return false;
 	}
 
-	private Chunk<I> readChunk(StepContribution contribution) throws Exception {
+	private Chunk<I> readChunk(StepContribution contribution, ChunkProcessingContext context) throws Exception {
+		Observation observation = this.itemObservationsEnabled ? Observation.NOOP
+				: startObservation(CHUNK_READ_METRIC, contribution, context);
+		String status = BatchMetrics.STATUS_SUCCESS;
 		Chunk<I> chunk = new Chunk<>();
-		for (int i = 0; i < chunkSize && this.chunkTracker.get().moreItems(); i++) {
-			I item = readItem(contribution);
-			if (item != null) {
-				chunk.add(item);
+		try (var scope = observation.openScope()) {
+			int chunkSize = context.chunkSize();
+			for (int i = 0; i < chunkSize && context.moreItems(); i++) {
+				I item = readItem(contribution, context);
+				if (item != null) {
+					chunk.add(item);
+				}
 			}
 		}
+		catch (Exception exception) {
+			status = BatchMetrics.STATUS_FAILURE;
+			observation.error(exception);
+			throw exception;
+		}
+		finally {
+			stopObservation(observation, CHUNK_READ_METRIC, status);
+		}
 		return chunk;
 	}
 
-	private @Nullable I readItem(StepContribution contribution) throws Exception {
-		ItemReadEvent itemReadEvent = new ItemReadEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId());
-		String fullyQualifiedMetricName = BatchMetrics.METRICS_PREFIX + "item.read";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		itemReadEvent.begin();
+	private @Nullable I readItem(StepContribution contribution, ChunkProcessingContext context) throws Exception {
+		ItemReadEvent itemReadEvent = null;
+		if (ITEM_READ_EVENT_TYPE.isEnabled()) {
+			itemReadEvent = new ItemReadEvent(contribution.getStepExecution().getStepName(),
+					contribution.getStepExecution().getId());
+			itemReadEvent.begin();
+		}
+		Observation observation = startItemObservation(ITEM_READ_METRIC, contribution, context);
+		String status = BatchMetrics.STATUS_SUCCESS;
 		I item = null;
 		try (var scope = observation.openScope()) {
 			this.compositeItemReadListener.beforeRead();
 			item = doRead();
 			if (item == null) {
-				this.chunkTracker.get().reset();
+				context.noMoreItems();
 			}
 			else {
 				contribution.incrementReadCount();
 				this.compositeItemReadListener.afterRead(item);
 			}
-			itemReadEvent.itemReadStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
+			status = BatchMetrics.STATUS_FAILURE;
+			observation.error(exception);
 			this.compositeItemReadListener.onReadError(exception);
 			if (this.faultTolerant && exception instanceof RetryException retryException) {
 				doSkipInRead(retryException, contribution);
@@ -528,13 +906,13 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			else {
 				throw exception;
 			}
-			itemReadEvent.itemReadStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
-			observation.error(exception);
 		}
 		finally {
-			itemReadEvent.commit();
-			observation.stop();
+			if (itemReadEvent != null) {
+				itemReadEvent.itemReadStatus = status;
+				itemReadEvent.commit();
+			}
+			stopObservation(observation, ITEM_READ_METRIC, status);
 		}
 		return item;
 	}
@@ -571,40 +949,110 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
-	private Chunk<O> processChunk(Chunk<I> chunk, StepContribution contribution) throws Exception {
+	private Chunk<O> processChunk(Chunk<I> chunk, StepContribution contribution, ChunkProcessingContext context)
+			throws Exception {
+		Observation observation = this.itemObservationsEnabled ? Observation.NOOP
+				: startObservation(CHUNK_PROCESS_METRIC, contribution, context);
+		String status = BatchMetrics.STATUS_SUCCESS;
 		Chunk<O> processedChunk = new Chunk<>();
+		try (var scope = observation.openScope()) {
+			if (this.itemProcessor instanceof ChunkAwareItemProcessor<I, O> chunkAwareItemProcessor
+					&& chunk.size() > 1) {
+				processItemsAtOnce(chunkAwareItemProcessor, chunk, processedChunk, contribution, context);
+			}
+			else {
+				processItemsOneByOne(chunk, processedChunk, contribution, context, true);
+			}
+		}
+		catch (Exception exception) {
+			status = BatchMetrics.STATUS_FAILURE;
+			observation.error(exception);
+			throw exception;
+		}
+		finally {
+			stopObservation(observation, CHUNK_PROCESS_METRIC, status);
+		}
+		return processedChunk;
+	}
+
+	private void processItemsOneByOne(Chunk<I> chunk, Chunk<O> processedChunk, StepContribution contribution,
+			ChunkProcessingContext context, boolean notifyBeforeProcess) throws Exception {
 		for (I item : chunk) {
-			O processedItem = processItem(item, contribution);
+			O processedItem = processItem(item, contribution, context, notifyBeforeProcess);
 			if (processedItem != null) {
 				processedChunk.add(processedItem);
 			}
 		}
-		return processedChunk;
 	}
 
-	private @Nullable O processItem(I item, StepContribution contribution) throws Exception {
-		ItemProcessEvent itemProcessEvent = new ItemProcessEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId());
-		String fullyQualifiedMetricName = METRICS_PREFIX + "item.process";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		itemProcessEvent.begin();
+	/*
+	 * Process all items with a single call to the processor. The failure of that call is
+	 * not attributable to an item, so items are then processed one by one to retry or
+	 * skip the failing item on its own. Listeners are notified before the chunk is
+	 * processed, and once per item after it was processed (or failed to be processed) by
+	 * either path.
+	 */
+	private void processItemsAtOnce(ChunkAwareItemProcessor<I, O> chunkAwareItemProcessor, Chunk<I> chunk,
+			Chunk<O> processedChunk, StepContribution contribution, ChunkProcessingContext context) throws Exception {
+		for (I item : chunk) {
+			this.compositeItemProcessListener.beforeProcess(item);
+		}
+		// results can be null, see ChunkAwareItemProcessor#process(Chunk)
+		List<O> processedItems;
+		try {
+			processedItems = chunkAwareItemProcessor.process(chunk);
+		}
+		catch (Exception exception) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(
+						"Unable to process chunk of " + chunk.size() + " items at once, processing items one by one",
+						exception);
+			}
+			// beforeProcess was already called for each item
+			processItemsOneByOne(chunk, processedChunk, contribution, context, false);
+			return;
+		}
+		if (processedItems.size() != chunk.size()) {
+			throw new IllegalStateException("The chunk-aware item processor returned " + processedItems.size()
+					+ " results for " + chunk.size() + " items");
+		}
+		Iterator<O> results = processedItems.iterator();
+		for (I item : chunk) {
+			@Nullable O processedItem = results.next();
+			if (processedItem == null) {
+				contribution.incrementFilterCount();
+			}
+			else {
+				processedChunk.add(processedItem);
+			}
+			this.compositeItemProcessListener.afterProcess(item, processedItem);
+		}
+	}
+
+	private @Nullable O processItem(I item, StepContribution contribution, ChunkProcessingContext context,
+			boolean notifyBeforeProcess) throws Exception {
+		ItemProcessEvent itemProcessEvent = null;
+		if (ITEM_PROCESS_EVENT_TYPE.isEnabled()) {
+			itemProcessEvent = new ItemProcessEvent(contribution.getStepExecution().getStepName(),
+					contribution.getStepExecution().getId());
+			itemProcessEvent.begin();
+		}
+		Observation observation = startItemObservation(ITEM_PROCESS_METRIC, contribution, context);
+		String status = BatchMetrics.STATUS_SUCCESS;
 		O processedItem = null;
 		try (var scope = observation.openScope()) {
-			this.compositeItemProcessListener.beforeProcess(item);
+			if (notifyBeforeProcess) {
+				this.compositeItemProcessListener.beforeProcess(item);
+			}
 			processedItem = doProcess(item);
 			if (processedItem == null) {
 				contribution.incrementFilterCount();
 			}
 			this.compositeItemProcessListener.afterProcess(item, processedItem);
-			itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
+			status = BatchMetrics.STATUS_FAILURE;
+			observation.error(exception);
 			this.compositeItemProcessListener.onProcessError(item, exception);
 			if (this.faultTolerant && exception instanceof RetryException retryException) {
 				doSkipInProcess(item, retryException, contribution);
@@ -612,13 +1060,13 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			else {
 				throw exception;
 			}
-			itemProcessEvent.itemProcessStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
-			observation.error(exception);
 		}
 		finally {
-			itemProcessEvent.commit();
-			observation.stop();
+			if (itemProcessEvent != null) {
+				itemProcessEvent.itemProcessStatus = status;
+				itemProcessEvent.commit();
+			}
+			stopObservation(observation, ITEM_PROCESS_METRIC, status);
 		}
 		return processedItem;
 	}
@@ -667,29 +1115,25 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		}
 	}
 
-	private void writeChunk(Chunk<O> chunk, StepContribution contribution) throws Exception {
-		ChunkWriteEvent chunkWriteEvent = new ChunkWriteEvent(contribution.getStepExecution().getStepName(),
-				contribution.getStepExecution().getId(), chunk.size());
-		String fullyQualifiedMetricName = METRICS_PREFIX + "chunk.write";
-		Observation observation = Observation.createNotStarted(fullyQualifiedMetricName, this.observationRegistry)
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".job.name",
-					contribution.getStepExecution().getJobExecution().getJobInstance().getJobName())
-			.lowCardinalityKeyValue(fullyQualifiedMetricName + ".step.name",
-					contribution.getStepExecution().getStepName())
-			.start();
-		chunkWriteEvent.begin();
+	private void writeChunk(Chunk<O> chunk, StepContribution contribution, ChunkProcessingContext context)
+			throws Exception {
+		ChunkWriteEvent chunkWriteEvent = null;
+		if (CHUNK_WRITE_EVENT_TYPE.isEnabled()) {
+			chunkWriteEvent = new ChunkWriteEvent(contribution.getStepExecution().getStepName(),
+					contribution.getStepExecution().getId(), chunk.size());
+			chunkWriteEvent.begin();
+		}
+		Observation observation = startObservation(CHUNK_WRITE_METRIC, contribution, context);
+		String status = BatchMetrics.STATUS_SUCCESS;
 		try (var scope = observation.openScope()) {
 			this.compositeItemWriteListener.beforeWrite(chunk);
 			doWrite(chunk);
 			contribution.incrementWriteCount(chunk.size());
 			this.compositeItemWriteListener.afterWrite(chunk);
-			chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_SUCCESS;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_SUCCESS);
 		}
 		catch (Exception exception) {
 			this.compositeItemWriteListener.onWriteError(exception, chunk);
-			chunkWriteEvent.chunkWriteStatus = BatchMetrics.STATUS_FAILURE;
-			observation.lowCardinalityKeyValue(fullyQualifiedMetricName + ".status", BatchMetrics.STATUS_FAILURE);
+			status = BatchMetrics.STATUS_FAILURE;
 			observation.error(exception);
 			if (this.faultTolerant && exception instanceof RetryException retryException
 					&& this.skipPolicy.shouldSkip(retryException.getCause(), -1)) {
@@ -708,9 +1152,42 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 			}
 		}
 		finally {
-			chunkWriteEvent.commit();
-			observation.stop();
+			if (chunkWriteEvent != null) {
+				chunkWriteEvent.chunkWriteStatus = status;
+				chunkWriteEvent.commit();
+			}
+			stopObservation(observation, CHUNK_WRITE_METRIC, status);
+		}
+	}
+
+	/*
+	 * Items are observed individually only when explicitly requested or in concurrent
+	 * mode, where they are not read and processed as a chunk.
+	 */
+	private Observation startItemObservation(MetricNames metricNames, StepContribution contribution,
+			ChunkProcessingContext context) {
+		if (!this.itemObservationsEnabled && !isConcurrent()) {
+			return Observation.NOOP;
+		}
+		return startObservation(metricNames, contribution, context);
+	}
+
+	private Observation startObservation(MetricNames metricNames, StepContribution contribution,
+			ChunkProcessingContext context) {
+		if (!context.observationsEnabled()) {
+			return Observation.NOOP;
 		}
+		StepExecution stepExecution = contribution.getStepExecution();
+		return Observation.createNotStarted(metricNames.name(), this.observationRegistry)
+			.lowCardinalityKeyValue(metricNames.jobNameKey(),
+					stepExecution.getJobExecution().getJobInstance().getJobName())
+			.lowCardinalityKeyValue(metricNames.stepNameKey(), stepExecution.getStepName())
+			.start();
+	}
+
+	private static void stopObservation(Observation observation, MetricNames metricNames, String status) {
+		observation.lowCardinalityKeyValue(metricNames.statusKey(), status);
+		observation.stop();
 	}
 
 	private void doWrite(Chunk<O> chunk) throws Exception {
@@ -735,24 +1212,60 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 	}
 
 	private void scan(Chunk<O> chunk, StepContribution contribution) {
-		for (O item : chunk) {
-			Chunk<O> singleItemChunk = new Chunk<>(item);
+		if (this.chunkScanStrategy == ChunkScanStrategy.BISECTION && chunk.size() > 1) {
+			bisect(chunk.getItems(), contribution);
+		}
+		else {
+			for (O item : chunk) {
+				scanItem(item, contribution);
+			}
+		}
+	}
+
+	/*
+	 * Write each half of the given items (which failed to be written together) and only
+	 * bisect the halves that fail again, until failing items are isolated.
+	 */
+	private void bisect(List<O> items, StepContribution contribution) {
+		int middle = items.size() / 2;
+		for (List<O> half : List.of(items.subList(0, middle), items.subList(middle, items.size()))) {
+			if (half.size() == 1) {
+				scanItem(half.get(0), contribution);
+				continue;
+			}
+			Chunk<O> halfChunk = new Chunk<>(half);
 			try {
-				this.compositeItemWriteListener.beforeWrite(singleItemChunk);
-				this.itemWriter.write(singleItemChunk);
-				contribution.incrementWriteCount(singleItemChunk.size());
-				this.compositeItemWriteListener.afterWrite(singleItemChunk);
+				this.compositeItemWriteListener.beforeWrite(halfChunk);
+				this.itemWriter.write(halfChunk);
+				contribution.incrementWriteCount(halfChunk.size());
+				this.compositeItemWriteListener.afterWrite(halfChunk);
 			}
 			catch (Exception exception) {
-				if (this.skipPolicy.shouldSkip(exception, contribution.getStepSkipCount())) {
-					this.compositeSkipListener.onSkipInWrite(item, exception);
-					contribution.incrementWriteSkipCount();
-				}
-				else {
-					logger.error("Failed to write item: " + item, exception);
-					this.compositeItemWriteListener.onWriteError(exception, singleItemChunk);
-					throw new NonSkippableWriteException("Skip policy rejected skipping item", exception);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to write " + half.size() + " items, bisecting them", exception);
 				}
+				bisect(half, contribution);
+			}
+		}
+	}
+
+	private void scanItem(O item, StepContribution contribution) {
+		Chunk<O> singleItemChunk = new Chunk<>(item);
+		try {
+			this.compositeItemWriteListener.beforeWrite(singleItemChunk);
+			this.itemWriter.write(singleItemChunk);
+			contribution.incrementWriteCount(singleItemChunk.size());
+			this.compositeItemWriteListener.afterWrite(singleItemChunk);
+		}
+		catch (Exception exception) {
+			if (this.skipPolicy.shouldSkip(exception, contribution.getStepSkipCount())) {
+				this.compositeSkipListener.onSkipInWrite(item, exception);
+				contribution.incrementWriteSkipCount();
+			}
+			else {
+				logger.error("Failed to write item: " + item, exception);
+				this.compositeItemWriteListener.onWriteError(exception, singleItemChunk);
+				throw new NonSkippableWriteException("Skip policy rejected skipping item", exception);
 			}
 		}
 	}
@@ -761,22 +1274,70 @@ public class ChunkOrientedStep<I, O> extends AbstractStep {
 		return this.taskExecutor != null;
 	}
 
-	private static class ChunkTracker {
+	private boolean isPipelined() {
+		return this.pipelineDepth > 0;
+	}
+
+	/**
+	 * A chunk read and processed ahead of the chunk being written, along with the state
+	 * of the item reader right after reading it.
+	 */
+	private record PipelinedChunk<O>(Chunk<O> processedChunk, StepContribution contribution,
+			ExecutionContext readerState, @Nullable Throwable failure, boolean last) {
+	}
 
-		private boolean moreItems;
+	/**
+	 * Precomputed name and key names of a metric, to avoid building them for each
+	 * observation.
+	 */
+	private record MetricNames(String name, String jobNameKey, String stepNameKey, String statusKey) {
 
-		void init() {
-			this.moreItems = true;
+		MetricNames(String name) {
+			this(name, name + ".job.name", name + ".step.name", name + ".status");
 		}
 
-		void reset() {
-			this.moreItems = false;
+	}
+
+	/**
+	 * Mutable state of a single execution of this step. A new instance is created for
+	 * each execution and passed along the chunk loop, so that concurrent executions of
+	 * the same step (like partitions sharing a worker step) do not interfere with each
+	 * other. The end of input is only tracked by the thread reading items, while the
+	 * chunk size can be adapted by the thread writing items in pipelined mode.
+	 */
+	private static final class ChunkProcessingContext {
+
+		private final boolean observationsEnabled;
+
+		private boolean moreItems = true;
+
+		private volatile int chunkSize;
+
+		ChunkProcessingContext(int chunkSize, boolean observationsEnabled) {
+			this.chunkSize = chunkSize;
+			this.observationsEnabled = observationsEnabled;
+		}
+
+		int chunkSize() {
+			return this.chunkSize;
+		}
+
+		void setChunkSize(int chunkSize) {
+			this.chunkSize = chunkSize;
+		}
+
+		boolean observationsEnabled() {
+			return this.observationsEnabled;
 		}
 
 		boolean moreItems() {
 			return this.moreItems;
 		}
 
+		void noMoreItems() {
+			this.moreItems = false;
+		}
+
 	}
 
 }
\ No newline at end of file
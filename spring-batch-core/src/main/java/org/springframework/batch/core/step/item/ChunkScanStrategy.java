@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+/**
+ * Strategy used by a fault-tolerant {@link ChunkOrientedStep} to find the items that
+ * cannot be written once writing a whole chunk failed and retries are exhausted.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+public enum ChunkScanStrategy {
+
+	/**
+	 * Write the items of the chunk one at a time. This requires one write operation per
+	 * item of the chunk.
+	 */
+	ITEM_BY_ITEM,
+
+	/**
+	 * Split the chunk in halves and write each half, splitting again only the halves that
+	 * fail to be written until the failing items are isolated. This requires in the order
+	 * of {@code k * log(n)} write operations to find {@code k} failing items in a chunk
+	 * of {@code n} items, which is much less than {@link #ITEM_BY_ITEM} when failures are
+	 * rare and the item writer is efficient at writing several items at once (like a JDBC
+	 * batch writer).
+	 */
+	BISECTION
+
+}
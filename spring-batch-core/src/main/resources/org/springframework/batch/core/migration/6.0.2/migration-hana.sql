@@ -0,0 +1,5 @@
+CREATE INDEX BATCH_JOB_INST_NAME_IDX ON BATCH_JOB_INSTANCE(JOB_NAME, JOB_INSTANCE_ID);
+CREATE INDEX BATCH_JOB_EXEC_INST_IDX ON BATCH_JOB_EXECUTION(JOB_INSTANCE_ID, JOB_EXECUTION_ID);
+CREATE INDEX BATCH_JOB_EXEC_STATUS_IDX ON BATCH_JOB_EXECUTION(STATUS);
+CREATE INDEX BATCH_JOB_EXEC_PARAMS_IDX ON BATCH_JOB_EXECUTION_PARAMS(JOB_EXECUTION_ID);
+CREATE INDEX BATCH_STEP_EXEC_JOB_EXEC_IDX ON BATCH_STEP_EXECUTION(JOB_EXECUTION_ID, STEP_NAME);
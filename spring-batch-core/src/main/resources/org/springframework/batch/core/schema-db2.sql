@@ -73,6 +73,12 @@ CREATE TABLE BATCH_JOB_EXECUTION_CONTEXT (
 	references BATCH_JOB_EXECUTION(JOB_EXECUTION_ID)
 ) ;
 
+CREATE INDEX BATCH_JOB_INST_NAME_IDX ON BATCH_JOB_INSTANCE(JOB_NAME, JOB_INSTANCE_ID);
+CREATE INDEX BATCH_JOB_EXEC_INST_IDX ON BATCH_JOB_EXECUTION(JOB_INSTANCE_ID, JOB_EXECUTION_ID);
+CREATE INDEX BATCH_JOB_EXEC_STATUS_IDX ON BATCH_JOB_EXECUTION(STATUS);
+CREATE INDEX BATCH_JOB_EXEC_PARAMS_IDX ON BATCH_JOB_EXECUTION_PARAMS(JOB_EXECUTION_ID);
+CREATE INDEX BATCH_STEP_EXEC_JOB_EXEC_IDX ON BATCH_STEP_EXECUTION(JOB_EXECUTION_ID, STEP_NAME);
+
 CREATE SEQUENCE BATCH_STEP_EXECUTION_SEQ AS BIGINT MAXVALUE 9223372036854775807 NO CYCLE;
 CREATE SEQUENCE BATCH_JOB_EXECUTION_SEQ AS BIGINT MAXVALUE 9223372036854775807 NO CYCLE;
 CREATE SEQUENCE BATCH_JOB_INSTANCE_SEQ AS BIGINT MAXVALUE 9223372036854775807 NO CYCLE;
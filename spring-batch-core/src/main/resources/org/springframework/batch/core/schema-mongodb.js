@@ -16,3 +16,5 @@ db.getCollection("BATCH_JOB_INSTANCE").createIndex( {"jobInstanceId": -1}, {"nam
 db.getCollection("BATCH_JOB_EXECUTION").createIndex( {"jobInstanceId": 1}, {"name": "job_instance_idx"});
 db.getCollection("BATCH_JOB_EXECUTION").createIndex( {"jobInstanceId": 1, "status": 1}, {"name": "job_instance_status_idx"});
 db.getCollection("BATCH_STEP_EXECUTION").createIndex( {"stepExecutionId": 1}, {"name": "step_execution_idx"});
+db.getCollection("BATCH_JOB_EXECUTION").createIndex( {"jobExecutionId": 1}, {"name": "job_execution_idx"});
+db.getCollection("BATCH_STEP_EXECUTION").createIndex( {"jobExecutionId": 1, "name": 1, "createTime": -1, "stepExecutionId": -1}, {"name": "job_execution_step_name_idx"});
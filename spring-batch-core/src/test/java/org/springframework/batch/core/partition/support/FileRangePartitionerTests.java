@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.partition.support;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.UrlResource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link FileRangePartitioner}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class FileRangePartitionerTests {
+
+	@TempDir
+	Path directory;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "\n", "\r\n", "\r" })
+	void testRangesAreContiguousAndAlignedOnLines(String lineSeparator) throws Exception {
+		// given
+		List<String> lines = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			lines.add("line" + i + ",value" + i);
+		}
+		Path file = this.directory.resolve("input.csv");
+		Files.writeString(file, String.join(lineSeparator, lines) + lineSeparator);
+		FileRangePartitioner partitioner = new FileRangePartitioner();
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		// then
+		assertEquals(3, partitions.size());
+		long expectedStart = 0;
+		List<String> readLines = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ExecutionContext context = partitions.get("partition" + i);
+			long start = context.getLong("startPosition");
+			long end = context.getLong("endPosition");
+			assertEquals(expectedStart, start);
+			readLines.addAll(readRange(context.getString("fileName"), start, end));
+			expectedStart = end;
+		}
+		assertEquals(Files.size(file), expectedStart);
+		assertEquals(lines, readLines);
+	}
+
+	@Test
+	void testFewerLinesThanGridSize() throws Exception {
+		// given
+		Path file = this.directory.resolve("input.csv");
+		Files.writeString(file, "a very long first line\nb\n");
+		FileRangePartitioner partitioner = new FileRangePartitioner();
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(10);
+
+		// then
+		assertEquals(2, partitions.size());
+		assertEquals(23, partitions.get("partition0").getLong("endPosition"));
+		assertEquals(23, partitions.get("partition1").getLong("startPosition"));
+		assertEquals(25, partitions.get("partition1").getLong("endPosition"));
+	}
+
+	@Test
+	void testEmptyFile() throws Exception {
+		// given
+		Path file = Files.createFile(this.directory.resolve("input.csv"));
+		FileRangePartitioner partitioner = new FileRangePartitioner();
+		partitioner.setResource(new FileSystemResource(file));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		// then
+		assertEquals(1, partitions.size());
+		assertEquals(0, partitions.get("partition0").getLong("startPosition"));
+		assertEquals(0, partitions.get("partition0").getLong("endPosition"));
+	}
+
+	@Test
+	void testMissingResource() {
+		FileRangePartitioner partitioner = new FileRangePartitioner();
+		partitioner.setResource(new FileSystemResource("does-not-exist"));
+		assertThrows(IllegalStateException.class, () -> partitioner.partition(3));
+	}
+
+	private List<String> readRange(String fileName, long start, long end) throws Exception {
+		FlatFileItemReader<String> reader = new FlatFileItemReader<>(new UrlResource(fileName), (line, number) -> line);
+		reader.setStartPosition(start);
+		reader.setEndPosition(end);
+		reader.open(new ExecutionContext());
+		List<String> lines = new ArrayList<>();
+		String line;
+		while ((line = reader.read()) != null) {
+			lines.add(line);
+		}
+		reader.close();
+		return lines;
+	}
+
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -128,4 +129,49 @@ class TaskExecutorPartitionHandlerTests {
 		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
 	}
 
+	@Test
+	void testConcurrencyLimit() throws Exception {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		handler.setStep(new StepSupport() {
+			@Override
+			public void execute(StepExecution stepExecution) throws JobInterruptedException {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(20);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+			}
+		});
+		handler.setGridSize(10);
+		handler.setConcurrencyLimit(2);
+		handler.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		Collection<StepExecution> executions = handler.handle(stepExecutionSplitter, stepExecution);
+
+		assertEquals(10, executions.size());
+		assertTrue(maxRunning.get() <= 2, "At most 2 partitions should run at the same time");
+	}
+
+	@Test
+	void testConcurrencyLimitReleasedOnTaskRejection() throws Exception {
+		handler.setGridSize(3);
+		handler.setConcurrencyLimit(1);
+		AtomicInteger submitted = new AtomicInteger();
+		handler.setTaskExecutor(task -> {
+			if (submitted.incrementAndGet() == 2) {
+				throw new TaskRejectedException("foo");
+			}
+			task.run();
+		});
+
+		Collection<StepExecution> executions = handler.handle(stepExecutionSplitter, stepExecution);
+
+		assertEquals(3, executions.size());
+		assertEquals(2, count);
+	}
+
 }
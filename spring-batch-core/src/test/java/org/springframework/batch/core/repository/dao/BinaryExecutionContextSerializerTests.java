@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link BinaryExecutionContextSerializer}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class BinaryExecutionContextSerializerTests extends AbstractExecutionContextSerializerTests {
+
+	private final BinaryExecutionContextSerializer serializer = new BinaryExecutionContextSerializer();
+
+	@Test
+	void testSerializeNonSerializable() {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("object1", new Object());
+
+		assertThrows(IllegalArgumentException.class, () -> serializer.serialize(m1, new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void testSerializeBuiltInTypes() throws Exception {
+		Map<String, Object> startAfterValues = new LinkedHashMap<>();
+		startAfterValues.put("ID", 42L);
+		startAfterValues.put("NAME", "foo");
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("reader.read.count", 123);
+		m1.put("reader.start.after", startAfterValues);
+		m1.put("negative", Long.MIN_VALUE);
+		m1.put("double", -0.5D);
+		m1.put("flag", true);
+		m1.put("resources", new ArrayList<>(Arrays.asList("a.csv", "b.csv", null)));
+		m1.put("unicode", "héllo 世界");
+
+		Map<String, Object> m2 = serializationRoundTrip(m1);
+
+		assertEquals(m1, m2);
+		assertInstanceOf(LinkedHashMap.class, m2.get("reader.start.after"));
+		assertInstanceOf(Integer.class, m2.get("reader.read.count"));
+		assertEquals(List.of("ID", "NAME"), new ArrayList<>(((Map<?, ?>) m2.get("reader.start.after")).keySet()));
+	}
+
+	@Test
+	void testDeserializeContextWrittenByDefaultSerializer() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("reader.read.count", 123);
+		m1.put("name", "foo");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(m1, out);
+
+		Map<String, Object> m2 = serializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(m1, m2);
+	}
+
+	@Test
+	void testSerializedContextIsSmallerThanWithDefaultSerializer() throws Exception {
+		Map<String, Object> m1 = new HashMap<>();
+		m1.put("FlatFileItemReader.read.count", 123456);
+		m1.put("batch.version", "6.0.2");
+		m1.put("batch.stepType", "org.springframework.batch.core.step.item.ChunkOrientedStep");
+		ByteArrayOutputStream defaultOut = new ByteArrayOutputStream();
+		new DefaultExecutionContextSerializer().serialize(m1, defaultOut);
+		ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+		serializer.serialize(m1, binaryOut);
+
+		assertTrue(binaryOut.size() * 2 < defaultOut.size(), "Binary content should be less than half the size");
+	}
+
+	@Override
+	protected ExecutionContextSerializer getSerializer() {
+		return this.serializer;
+	}
+
+}
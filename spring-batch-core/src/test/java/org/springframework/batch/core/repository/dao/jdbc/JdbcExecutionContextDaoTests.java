@@ -15,7 +15,17 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
@@ -25,14 +35,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
 import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
 import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 class JdbcExecutionContextDaoTests {
 
@@ -127,4 +141,153 @@ class JdbcExecutionContextDaoTests {
 		Assertions.assertTrue(((String) shortContext).contains("\"name\":\"foo\""));
 	}
 
+	@Test
+	void testGetExecutionContextsInBulk() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		JobExecution jobExecution2 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jobExecution1.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(jobExecution1);
+		StepExecution stepExecution1 = jdbcStepExecutionDao.createStepExecution("step1", jobExecution1);
+		StepExecution stepExecution2 = jdbcStepExecutionDao.createStepExecution("step2", jobExecution1);
+		stepExecution1.getExecutionContext().putInt("count", 1);
+		stepExecution2.getExecutionContext().putInt("count", 2);
+		jdbcExecutionContextDao.saveExecutionContexts(Set.of(stepExecution1, stepExecution2));
+
+		// when
+		Map<Long, ExecutionContext> jobExecutionContexts = jdbcExecutionContextDao
+			.getJobExecutionContexts(List.of(jobExecution1, jobExecution2));
+		Map<Long, ExecutionContext> stepExecutionContexts = jdbcExecutionContextDao
+			.getStepExecutionContexts(List.of(stepExecution1, stepExecution2));
+
+		// then
+		Assertions.assertEquals(2, jobExecutionContexts.size());
+		Assertions.assertEquals("foo", jobExecutionContexts.get(jobExecution1.getId()).getString("name"));
+		Assertions.assertTrue(jobExecutionContexts.get(jobExecution2.getId()).isEmpty());
+		Assertions.assertEquals(1, stepExecutionContexts.get(stepExecution1.getId()).getInt("count"));
+		Assertions.assertEquals(2, stepExecutionContexts.get(stepExecution2.getId()).getInt("count"));
+	}
+
+	@Test
+	void testUpdateDirtyContextsOnly() {
+		// given
+		jdbcExecutionContextDao.setUpdateDirtyContextsOnly(true);
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		Assertions.assertFalse(stepExecution.getExecutionContext().isDirty());
+		jdbcTemplate.update("update BATCH_STEP_EXECUTION_CONTEXT set SHORT_CONTEXT = 'modified'");
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		String shortContext = jdbcTemplate.queryForObject("select SHORT_CONTEXT from BATCH_STEP_EXECUTION_CONTEXT",
+				String.class);
+		Assertions.assertEquals("modified", shortContext);
+
+		// when
+		stepExecution.getExecutionContext().putString("name", "bar");
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertFalse(stepExecution.getExecutionContext().isDirty());
+		Assertions.assertEquals("bar", jdbcExecutionContextDao.getExecutionContext(stepExecution).getString("name"));
+	}
+
+	@Test
+	void testUpdateDirtyContextsOnlyWithRolledBackTransaction() {
+		// given
+		jdbcExecutionContextDao.setUpdateDirtyContextsOnly(true);
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.getExecutionContext().putString("name", "foo");
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new JdbcTransactionManager(jdbcTemplate.getDataSource()));
+
+		// when
+		stepExecution.getExecutionContext().putString("name", "bar");
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+			status.setRollbackOnly();
+		});
+
+		// then
+		Assertions.assertTrue(stepExecution.getExecutionContext().isDirty());
+		Assertions.assertEquals(Set.of("name"), stepExecution.getExecutionContext().getDirtyKeys());
+		Assertions.assertEquals("foo", jdbcExecutionContextDao.getExecutionContext(stepExecution).getString("name"));
+
+		// when
+		jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+
+		// then
+		Assertions.assertFalse(stepExecution.getExecutionContext().isDirty());
+		Assertions.assertEquals("bar", jdbcExecutionContextDao.getExecutionContext(stepExecution).getString("name"));
+	}
+
+	@Test
+	void testConcurrentUpdatesOfSameStepExecutionContextPersistLastSnapshot() throws Exception {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		jdbcExecutionContextDao.saveExecutionContext(stepExecution);
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		CountDownLatch firstSnapshotTaken = new CountDownLatch(1);
+		CountDownLatch secondValuePut = new CountDownLatch(1);
+		Jackson2ExecutionContextStringSerializer delegate = new Jackson2ExecutionContextStringSerializer();
+		jdbcExecutionContextDao.setSerializer(new ExecutionContextSerializer() {
+
+			@Override
+			public void serialize(Map<String, Object> context, OutputStream outputStream) throws IOException {
+				if (Integer.valueOf(1).equals(context.get("count"))) {
+					// hold the first snapshot until a newer value was put in the context
+					firstSnapshotTaken.countDown();
+					try {
+						secondValuePut.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				delegate.serialize(context, outputStream);
+			}
+
+			@Override
+			public Map<String, Object> deserialize(InputStream inputStream) throws IOException {
+				return delegate.deserialize(inputStream);
+			}
+
+		});
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		// when
+		Future<?> firstUpdate = executorService.submit(() -> {
+			executionContext.putInt("count", 1);
+			jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+		});
+		Future<?> secondUpdate = executorService.submit(() -> {
+			firstSnapshotTaken.await();
+			executionContext.putInt("count", 2);
+			secondValuePut.countDown();
+			jdbcExecutionContextDao.updateExecutionContext(stepExecution);
+			return null;
+		});
+		firstUpdate.get();
+		secondUpdate.get();
+		executorService.shutdown();
+
+		// then
+		Assertions.assertEquals(2, jdbcExecutionContextDao.getExecutionContext(stepExecution).getInt("count"));
+	}
+
 }
@@ -18,18 +18,22 @@ package org.springframework.batch.core.repository.dao.jdbc;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -171,4 +175,68 @@ public class JdbcJobExecutionDaoTests {
 		Assertions.assertEquals(jobExecution1.getId(), jobExecutions.get(1).getId());
 	}
 
+	@Test
+	void testFindJobExecutionsWithAndWithoutParametersQueriesParametersOnce() {
+		// given
+		List<String> parameterQueries = new ArrayList<>();
+		JdbcTemplate countingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+			@Override
+			public void query(String sql, RowCallbackHandler rch, Object... args) {
+				if (sql.contains("JOB_EXECUTION_PARAMS")) {
+					parameterQueries.add(sql);
+				}
+				super.query(sql, rch, args);
+			}
+		};
+		jdbcJobExecutionDao.setJdbcTemplate(countingJdbcTemplate);
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		JobExecution jobExecution2 = jdbcJobExecutionDao.createJobExecution(jobInstance, new JobParameters());
+
+		// when
+		List<JobExecution> jobExecutions = jdbcJobExecutionDao.findJobExecutions(jobInstance);
+
+		// then
+		Assertions.assertEquals(1, parameterQueries.size());
+		Assertions.assertEquals(jobExecution2.getId(), jobExecutions.get(0).getId());
+		Assertions.assertTrue(jobExecutions.get(0).getJobParameters().isEmpty());
+		Assertions.assertEquals(jobExecution1.getId(), jobExecutions.get(1).getId());
+		Assertions.assertEquals("foo", jobExecutions.get(1).getJobParameters().getString("name"));
+	}
+
+	@Test
+	void testJobExecutionCreatedWhileQueryingIsNotReturnedWithoutParameters() {
+		// given
+		JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jobExecution.setStatus(BatchStatus.STARTED);
+		jdbcJobExecutionDao.updateJobExecution(jobExecution);
+		List<JobExecution> concurrentExecutions = new ArrayList<>();
+		JdbcTemplate interleavingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+			@Override
+			public void query(String sql, RowCallbackHandler rch, Object... args) {
+				if (sql.contains("JOB_EXECUTION_PARAMS") && concurrentExecutions.isEmpty()) {
+					// another process creates an execution between the two queries
+					JobExecution concurrentExecution = jdbcJobExecutionDao.createJobExecution(jobInstance,
+							jobParameters);
+					concurrentExecution.setStatus(BatchStatus.STARTED);
+					jdbcJobExecutionDao.updateJobExecution(concurrentExecution);
+					concurrentExecutions.add(concurrentExecution);
+				}
+				super.query(sql, rch, args);
+			}
+		};
+		jdbcJobExecutionDao.setJdbcTemplate(interleavingJdbcTemplate);
+
+		// when
+		Set<JobExecution> runningExecutions = jdbcJobExecutionDao.findRunningJobExecutions("job");
+
+		// then
+		Assertions.assertEquals(1, concurrentExecutions.size());
+		Assertions.assertEquals(Set.of(jobExecution), runningExecutions);
+		Assertions.assertEquals("foo", runningExecutions.iterator().next().getJobParameters().getString("name"));
+	}
+
 }
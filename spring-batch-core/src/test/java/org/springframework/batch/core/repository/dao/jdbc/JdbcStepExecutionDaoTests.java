@@ -15,6 +15,8 @@
  */
 package org.springframework.batch.core.repository.dao.jdbc;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
@@ -32,6 +35,8 @@ import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncremente
 import org.springframework.test.jdbc.JdbcTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JdbcStepExecutionDaoTests {
@@ -94,6 +99,27 @@ class JdbcStepExecutionDaoTests {
 		assertEquals(1, stepExecutionsCount);
 	}
 
+	@Test
+	void testCreateStepExecutions() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+
+		// when
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao.createStepExecutions(jobExecution,
+				List.of("step:partition0", "step:partition1", "step:partition2"));
+
+		// then
+		assertEquals(3, stepExecutions.size());
+		assertEquals("step:partition1", stepExecutions.get(1).getStepName());
+		assertEquals(3, JdbcTestUtils.countRowsInTable(jdbcTemplate, "BATCH_STEP_EXECUTION"));
+		StepExecution stepExecution = jdbcStepExecutionDao.getStepExecution(stepExecutions.get(2).getId());
+		Assertions.assertNotNull(stepExecution);
+		assertEquals("step:partition2", stepExecution.getStepName());
+		assertEquals(stepExecutions.get(2).getVersion(), stepExecution.getVersion());
+	}
+
 	/**
 	 * Long exit descriptions are truncated on update.
 	 */
@@ -126,6 +152,63 @@ class JdbcStepExecutionDaoTests {
 
 	}
 
+	@Test
+	void testUpdateStepExecutionIfJobNotStopped() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		int version = stepExecution.getVersion();
+		stepExecution.setReadCount(10);
+
+		// when
+		boolean updated = jdbcStepExecutionDao.updateStepExecutionIfJobNotStopped(stepExecution);
+
+		// then
+		assertTrue(updated);
+		assertEquals(version + 1, stepExecution.getVersion());
+		assertEquals(10, jdbcStepExecutionDao.getStepExecution(stepExecution.getId()).getReadCount());
+	}
+
+	@Test
+	void testUpdateStepExecutionIfJobNotStoppedWhenJobIsStopped() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		jdbcTemplate.update("UPDATE BATCH_JOB_EXECUTION SET STATUS = 'STOPPED' WHERE JOB_EXECUTION_ID = ?",
+				jobExecution.getId());
+		jdbcTemplate.update("UPDATE BATCH_STEP_EXECUTION SET VERSION = 5 WHERE STEP_EXECUTION_ID = ?",
+				stepExecution.getId());
+		stepExecution.setReadCount(10);
+
+		// when
+		boolean updated = jdbcStepExecutionDao.updateStepExecutionIfJobNotStopped(stepExecution);
+
+		// then
+		assertFalse(updated);
+		assertEquals(5, stepExecution.getVersion());
+		assertEquals(0, jdbcStepExecutionDao.getStepExecution(stepExecution.getId()).getReadCount());
+		jdbcStepExecutionDao.updateStepExecution(stepExecution);
+		assertEquals(10, jdbcStepExecutionDao.getStepExecution(stepExecution.getId()).getReadCount());
+	}
+
+	@Test
+	void testUpdateStepExecutionIfJobNotStoppedWithWrongVersion() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		StepExecution stepExecution = jdbcStepExecutionDao.createStepExecution("step", jobExecution);
+		stepExecution.setVersion(5);
+
+		// when
+		assertThrows(OptimisticLockingFailureException.class,
+				() -> jdbcStepExecutionDao.updateStepExecutionIfJobNotStopped(stepExecution));
+	}
+
 	@Test
 	void testCountStepExecutions() {
 		// Given
@@ -143,6 +226,32 @@ class JdbcStepExecutionDaoTests {
 		assertEquals(2, result);
 	}
 
+	@Test
+	void testGetStepExecutionsOfJobExecutions() {
+		// given
+		JobParameters jobParameters = new JobParameters();
+		JobInstance jobInstance = jdbcJobInstanceDao.createJobInstance("job", jobParameters);
+		JobExecution jobExecution1 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		JobExecution jobExecution2 = jdbcJobExecutionDao.createJobExecution(jobInstance, jobParameters);
+		jdbcStepExecutionDao.createStepExecution("step1", jobExecution1);
+		jdbcStepExecutionDao.createStepExecution("step1", jobExecution2);
+		jdbcStepExecutionDao.createStepExecution("step2", jobExecution1);
+
+		// when
+		List<StepExecution> stepExecutions = jdbcStepExecutionDao
+			.getStepExecutions(List.of(jobExecution1, jobExecution2));
+
+		// then
+		assertEquals(3, stepExecutions.size());
+		assertEquals(1, stepExecutions.get(0).getId());
+		assertEquals(3, stepExecutions.get(1).getId());
+		assertEquals(2, stepExecutions.get(2).getId());
+		assertEquals(jobExecution1, stepExecutions.get(0).getJobExecution());
+		assertEquals(jobExecution1, stepExecutions.get(1).getJobExecution());
+		assertEquals(jobExecution2, stepExecutions.get(2).getJobExecution());
+		assertEquals("step2", stepExecutions.get(1).getStepName());
+	}
+
 	@Test
 	void testDeleteStepExecution() {
 		// Given
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.dao.jdbc;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.batch.core.repository.dao.AbstractJdbcBatchMetadataDao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests checking that the queries issued by the JDBC DAOs use the indexes declared in the
+ * schema scripts.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class MetadataTablesIndexesTests {
+
+	private EmbeddedDatabase database;
+
+	@AfterEach
+	void tearDown() {
+		if (this.database != null) {
+			this.database.shutdown();
+		}
+	}
+
+	static Stream<Arguments> queries() {
+		List<String> queries = List.of(
+				// JdbcJobInstanceDao#getJobInstance(String, JobParameters)
+				query(JdbcJobInstanceDao.class, "FIND_JOBS_WITH_KEY", "job", "key"),
+				// JdbcJobInstanceDao#getJobInstances(String, int, int)
+				query(JdbcJobInstanceDao.class, "FIND_LAST_JOBS_WITH_NAME", "job"),
+				// JdbcJobInstanceDao#getLastJobInstance(String)
+				query(JdbcJobInstanceDao.class, "FIND_LAST_JOB_INSTANCE_BY_JOB_NAME", "job", "job"),
+				// JdbcJobExecutionDao#findJobExecutions(JobInstance)
+				query(JdbcJobExecutionDao.class, "GET_EXECUTIONS_BY_INSTANCE_ID", 1),
+				// JdbcJobExecutionDao#getLastJobExecution(JobInstance)
+				query(JdbcJobExecutionDao.class, "GET_LAST_JOB_EXECUTION_ID", 1, 1),
+				// JdbcJobExecutionDao#findRunningJobExecutions(String)
+				query(JdbcJobExecutionDao.class, "GET_RUNNING_EXECUTION_FOR_INSTANCE", "job"),
+				// JdbcJobExecutionDao#getJobParameters(Long)
+				query(JdbcJobExecutionDao.class, "FIND_PARAMS_FROM_ID", 1),
+				// JdbcStepExecutionDao#getStepExecutions(JobExecution)
+				query(JdbcStepExecutionDao.class, "GET_STEP_EXECUTIONS", 1),
+				// JdbcStepExecutionDao#getLastStepExecution(JobInstance, String)
+				query(JdbcStepExecutionDao.class, "GET_LAST_STEP_EXECUTION", 1, "step"));
+		return Stream.of(EmbeddedDatabaseType.H2, EmbeddedDatabaseType.HSQL)
+			.flatMap(databaseType -> queries.stream().map(query -> Arguments.of(databaseType, query)));
+	}
+
+	/**
+	 * Return the given query of a DAO with the default table prefix and the given
+	 * parameters inlined, so that it can be explained.
+	 */
+	private static String query(Class<?> daoType, String queryName, Object... parameters) {
+		String query = (String) ReflectionTestUtils.getField(daoType, queryName);
+		assertNotNull(query, "No query " + queryName + " in " + daoType.getSimpleName());
+		query = query.replace("%PREFIX%", AbstractJdbcBatchMetadataDao.DEFAULT_TABLE_PREFIX);
+		for (Object parameter : parameters) {
+			String literal = parameter instanceof String ? "'" + parameter + "'" : String.valueOf(parameter);
+			query = query.replaceFirst("\\?", Matcher.quoteReplacement(literal));
+		}
+		assertFalse(query.contains("?"), "Missing parameters for query " + queryName);
+		return query;
+	}
+
+	@ParameterizedTest
+	@MethodSource("queries")
+	void testQueryDoesNotScanTables(EmbeddedDatabaseType databaseType, String query) {
+		// given
+		String platform = databaseType == EmbeddedDatabaseType.HSQL ? "hsqldb" : "h2";
+		this.database = new EmbeddedDatabaseBuilder().setType(databaseType)
+			.generateUniqueName(true)
+			.addScript("/org/springframework/batch/core/schema-" + platform + ".sql")
+			.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+		String explain = databaseType == EmbeddedDatabaseType.HSQL ? "EXPLAIN PLAN FOR " : "EXPLAIN ";
+
+		// when
+		String plan = jdbcTemplate.queryForList(explain + query, String.class)
+			.stream()
+			.collect(Collectors.joining("\n"));
+
+		// then
+		String tableScan = databaseType == EmbeddedDatabaseType.HSQL ? "access=FULL SCAN" : ".tableScan";
+		assertFalse(plan.contains(tableScan), "Unexpected table scan in plan:\n" + plan);
+	}
+
+}
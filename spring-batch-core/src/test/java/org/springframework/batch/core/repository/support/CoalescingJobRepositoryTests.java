@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.StepExecution;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for {@link CoalescingJobRepository}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class CoalescingJobRepositoryTests {
+
+	private final JobRepository delegate = mock();
+
+	private final CoalescingJobRepository jobRepository = new CoalescingJobRepository(this.delegate);
+
+	private StepExecution stepExecution;
+
+	@BeforeEach
+	void setUp() {
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		this.stepExecution = new StepExecution(1L, "step", jobExecution);
+		this.stepExecution.setStatus(BatchStatus.STARTED);
+		this.jobRepository.setFlushTimeout(Duration.ofHours(1));
+	}
+
+	@Test
+	void testFirstUpdateIsWrittenThrough() {
+		// when
+		this.jobRepository.update(this.stepExecution);
+
+		// then
+		verify(this.delegate).update(this.stepExecution);
+		verify(this.delegate, never()).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testChunkUpdatesAreCoalesced() {
+		// given
+		this.jobRepository.setFlushInterval(3);
+		this.jobRepository.update(this.stepExecution);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			this.jobRepository.updateExecutionContext(this.stepExecution);
+			this.jobRepository.update(this.stepExecution);
+		}
+
+		// then
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate, times(1)).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreFlushedWhenFlushTimeoutIsElapsed() {
+		// given
+		this.jobRepository.setFlushInterval(100);
+		this.jobRepository.setFlushTimeout(Duration.ZERO);
+		this.jobRepository.update(this.stepExecution);
+
+		// when
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		this.jobRepository.update(this.stepExecution);
+
+		// then
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreFlushedWhenStepEnds() {
+		// given
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		this.jobRepository.update(this.stepExecution);
+
+		// when
+		this.stepExecution.setStatus(BatchStatus.FAILED);
+		this.jobRepository.update(this.stepExecution);
+
+		// then
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreFlushedWhenStepIsTerminated() {
+		// given
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+
+		// when
+		this.stepExecution.setTerminateOnly();
+		this.jobRepository.update(this.stepExecution);
+
+		// then
+		verify(this.delegate, times(2)).update(this.stepExecution);
+		verify(this.delegate).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testExplicitFlush() {
+		// given
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+
+		// when
+		this.jobRepository.flush(this.stepExecution);
+		this.jobRepository.flush(this.stepExecution);
+
+		// then
+		verify(this.delegate).update(this.stepExecution);
+		verify(this.delegate).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreDiscardedWhenJobEnds() {
+		// given
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		JobExecution jobExecution = this.stepExecution.getJobExecution();
+		jobExecution.setStatus(BatchStatus.FAILED);
+
+		// when
+		this.jobRepository.update(jobExecution);
+		this.jobRepository.flush(this.stepExecution);
+
+		// then
+		verify(this.delegate).update(jobExecution);
+		verify(this.delegate, never()).updateExecutionContext(this.stepExecution);
+	}
+
+	@Test
+	void testPendingUpdatesAreKeptWhileJobIsRunning() {
+		// given
+		this.jobRepository.update(this.stepExecution);
+		this.jobRepository.updateExecutionContext(this.stepExecution);
+		JobExecution jobExecution = this.stepExecution.getJobExecution();
+		jobExecution.setStatus(BatchStatus.STARTED);
+
+		// when
+		this.jobRepository.update(jobExecution);
+		this.jobRepository.flush(this.stepExecution);
+
+		// then
+		verify(this.delegate).updateExecutionContext(this.stepExecution);
+	}
+
+}
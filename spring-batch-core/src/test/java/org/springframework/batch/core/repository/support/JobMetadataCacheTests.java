@@ -0,0 +1,190 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.repository.dao.ExecutionContextDao;
+import org.springframework.batch.core.repository.dao.JobExecutionDao;
+import org.springframework.batch.core.repository.dao.JobInstanceDao;
+import org.springframework.batch.core.repository.dao.StepExecutionDao;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link JobMetadataCache}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class JobMetadataCacheTests {
+
+	private final JobParameters jobParameters = new JobParametersBuilder().addString("name", "foo").toJobParameters();
+
+	@Test
+	void testLeastRecentlyUsedEntryIsEvicted() {
+		// given
+		JobMetadataCache cache = new JobMetadataCache(2);
+		cache.putJobInstance(new JobInstance(1L, "job"));
+		cache.putJobInstance(new JobInstance(2L, "job"));
+		cache.getJobInstance(1L);
+
+		// when
+		cache.putJobInstance(new JobInstance(3L, "job"));
+
+		// then
+		assertNull(cache.getJobInstance(2L));
+		assertEquals(1L, cache.getJobInstance(1L).getId());
+		assertEquals(3L, cache.getJobInstance(3L).getId());
+	}
+
+	@Test
+	void testOnlyCompletedJobExecutionsAreCached() {
+		// given
+		JobMetadataCache cache = new JobMetadataCache(10);
+		JobExecution running = createJobExecution(1L, BatchStatus.STARTED);
+		JobExecution failed = createJobExecution(2L, BatchStatus.FAILED);
+		JobExecution completed = createJobExecution(3L, BatchStatus.COMPLETED);
+
+		// when
+		cache.putJobExecution(running);
+		cache.putJobExecution(failed);
+		cache.putJobExecution(completed);
+
+		// then
+		assertNull(cache.getJobExecution(1L));
+		assertNull(cache.getJobExecution(2L));
+		JobExecution cached = cache.getJobExecution(3L);
+		assertEquals(completed, cached);
+		assertNotSame(completed, cached);
+	}
+
+	@Test
+	void testCachedJobInstanceIsNotMutatedByRepeatedLaunches() {
+		// given
+		JobInstanceDao jobInstanceDao = mock();
+		JobExecutionDao jobExecutionDao = mock();
+		StepExecutionDao stepExecutionDao = mock();
+		ExecutionContextDao executionContextDao = mock();
+		SimpleJobRepository jobRepository = new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao,
+				executionContextDao);
+		JobMetadataCache cache = new JobMetadataCache(10);
+		jobRepository.setMetadataCache(cache);
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		when(jobInstanceDao.getJobInstance("job", this.jobParameters)).thenReturn(jobInstance);
+		when(jobExecutionDao.createJobExecution(any(), eq(this.jobParameters)))
+			.thenAnswer(invocation -> new JobExecution(1L, invocation.getArgument(0), this.jobParameters));
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			JobInstance instance = jobRepository.getJobInstance("job", this.jobParameters);
+			jobRepository.createJobExecution(instance, this.jobParameters, new ExecutionContext());
+		}
+
+		// then
+		verify(jobInstanceDao, times(1)).getJobInstance("job", this.jobParameters);
+		JobInstance cached = cache.getJobInstance("job", this.jobParameters);
+		assertEquals(jobInstance, cached);
+		assertTrue(cached.getJobExecutions().isEmpty());
+		assertNotSame(cached, cache.getJobInstance("job", this.jobParameters));
+	}
+
+	@Test
+	void testEvictJobInstance() {
+		// given
+		JobMetadataCache cache = new JobMetadataCache(10);
+		JobExecution jobExecution = createJobExecution(1L, BatchStatus.COMPLETED);
+		JobInstance jobInstance = jobExecution.getJobInstance();
+		cache.putJobInstance(jobInstance);
+		cache.putJobInstance("job", this.jobParameters, jobInstance);
+		cache.putJobExecution(jobExecution);
+
+		// when
+		cache.evictJobInstance(jobInstance.getId());
+
+		// then
+		assertNull(cache.getJobInstance(jobInstance.getId()));
+		assertNull(cache.getJobInstance("job", this.jobParameters));
+		assertNull(cache.getJobExecution(jobExecution.getId()));
+	}
+
+	@Test
+	void testDisabledCache() {
+		// given
+		JobMetadataCache cache = new JobMetadataCache(0);
+
+		// when
+		cache.putJobInstance(new JobInstance(1L, "job"));
+
+		// then
+		assertNull(cache.getJobInstance(1L));
+	}
+
+	@Test
+	void testJobRepositoryUsesCacheUntilDelete() {
+		// given
+		JobInstanceDao jobInstanceDao = mock();
+		JobExecutionDao jobExecutionDao = mock();
+		StepExecutionDao stepExecutionDao = mock();
+		ExecutionContextDao executionContextDao = mock();
+		SimpleJobRepository jobRepository = new SimpleJobRepository(jobInstanceDao, jobExecutionDao, stepExecutionDao,
+				executionContextDao);
+		jobRepository.setMetadataCache(new JobMetadataCache(10));
+		JobExecution jobExecution = createJobExecution(1L, BatchStatus.COMPLETED);
+		JobInstance jobInstance = jobExecution.getJobInstance();
+		when(jobInstanceDao.getJobInstance(jobInstance.getId())).thenReturn(jobInstance);
+		when(jobExecutionDao.getJobExecution(jobExecution.getId())).thenReturn(jobExecution);
+		when(jobExecutionDao.findJobExecutions(jobInstance)).thenReturn(List.of());
+
+		// when
+		jobRepository.getJobInstance(jobInstance.getId());
+		jobRepository.getJobInstance(jobInstance.getId());
+		jobRepository.getJobExecution(jobExecution.getId());
+		jobRepository.getJobExecution(jobExecution.getId());
+		jobRepository.deleteJobInstance(jobInstance);
+		jobRepository.getJobInstance(jobInstance.getId());
+		jobRepository.getJobExecution(jobExecution.getId());
+
+		// then
+		verify(jobInstanceDao, times(2)).getJobInstance(jobInstance.getId());
+		verify(jobExecutionDao, times(2)).getJobExecution(jobExecution.getId());
+	}
+
+	private JobExecution createJobExecution(long id, BatchStatus status) {
+		JobExecution jobExecution = new JobExecution(id, new JobInstance(1L, "job"), this.jobParameters);
+		jobExecution.setStatus(status);
+		jobExecution.setEndTime(LocalDateTime.now());
+		return jobExecution;
+	}
+
+}
@@ -115,6 +115,21 @@ class MongoStepExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegratio
 		assertEquals(lastStepExecution.getId(), retrieved.getId());
 	}
 
+	@Test
+	void testGetLastExecutionAcrossJobExecutions(@Autowired JobExecutionDao jobExecutionDao) {
+		StepExecution stepExecution1 = dao.createStepExecution("step1", jobExecution);
+		JobExecution restartedJobExecution = jobExecutionDao.createJobExecution(jobInstance, new JobParameters());
+		StepExecution stepExecution2 = dao.createStepExecution("step1", restartedJobExecution);
+		dao.createStepExecution("step2", restartedJobExecution);
+
+		StepExecution retrieved = dao.getLastStepExecution(jobInstance, "step1");
+		assertNotNull(retrieved);
+		assertEquals(stepExecution2.getId(), retrieved.getId());
+		assertEquals(restartedJobExecution.getId(), retrieved.getJobExecutionId());
+		assertNotEquals(stepExecution1.getId(), retrieved.getId());
+		assertNull(dao.getLastStepExecution(jobInstance, "step3"));
+	}
+
 	@Test
 	void testGetForNotExistingJobExecution() {
 		assertNull(dao.getStepExecution(45677L));
@@ -185,6 +200,7 @@ class MongoStepExecutionDaoIntegrationTests extends AbstractMongoDBDaoIntegratio
 	void testCountStepExecutions() {
 		// Given
 		StepExecution stepExecution = dao.createStepExecution("step", jobExecution);
+		dao.createStepExecution("otherStep", jobExecution);
 
 		// When
 		long result = dao.countStepExecutions(jobInstance, stepExecution.getStepName());
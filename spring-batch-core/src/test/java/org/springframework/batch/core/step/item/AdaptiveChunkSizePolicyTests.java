@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.core.step.item;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link AdaptiveChunkSizePolicy}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class AdaptiveChunkSizePolicyTests {
+
+	private final AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(10, 1000, Duration.ofSeconds(1));
+
+	@Test
+	void testChunkSizeGrowsWhenChunksAreFasterThanTarget() {
+		// 100 items in 500ms, 200 items would fit in the target duration
+		assertEquals(150, this.policy.computeChunkSize(100, 100, Duration.ofMillis(500)));
+	}
+
+	@Test
+	void testChunkSizeAtMostDoubles() {
+		// 100 items in 1ms, way more items than the max would fit in the target duration
+		assertEquals(200, this.policy.computeChunkSize(100, 100, Duration.ofMillis(1)));
+	}
+
+	@Test
+	void testChunkSizeShrinksWhenChunksAreSlowerThanTarget() {
+		// 100 items in 4s, 25 items would fit in the target duration
+		assertEquals(62, this.policy.computeChunkSize(100, 100, Duration.ofSeconds(4)));
+	}
+
+	@Test
+	void testChunkSizeIsBounded() {
+		assertEquals(10, this.policy.computeChunkSize(10, 10, Duration.ofMinutes(1)));
+		assertEquals(1000, this.policy.computeChunkSize(1000, 1000, Duration.ofMillis(1)));
+	}
+
+	@Test
+	void testChunkSizeIsUnchangedForEmptyChunks() {
+		assertEquals(100, this.policy.computeChunkSize(100, 0, Duration.ofSeconds(4)));
+	}
+
+	@Test
+	void testInvalidBounds() {
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy(0, 10, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy(10, 5, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSizePolicy(1, 5, Duration.ZERO));
+	}
+
+}
@@ -29,12 +29,15 @@ import org.springframework.batch.core.configuration.annotation.EnableBatchProces
 import org.springframework.batch.core.configuration.support.DefaultBatchConfiguration;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.observability.BatchMetrics;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.core.step.builder.ChunkOrientedStepBuilder;
 import org.springframework.batch.infrastructure.item.support.ListItemReader;
 import org.springframework.context.ApplicationContext;
@@ -83,22 +86,59 @@ public class ChunkOrientedStepObservabilityIntegrationTests {
 		assertMetrics(meterRegistry);
 	}
 
+	@Test
+	void testChunkOrientedStepItemMetrics() throws Exception {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStepBuilder<String, String>(jobRepository, 2)
+			.reader(new ListItemReader<>(List.of("one", "two", "three")))
+			.processor(String::toUpperCase)
+			.writer(items -> {
+			})
+			.observationRegistry(observationRegistry)
+			.itemObservations(true)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		Assertions.assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		Assertions.assertEquals(4,
+				meterRegistry.get(BatchMetrics.METRICS_PREFIX + "item.read")
+					.tag(BatchMetrics.METRICS_PREFIX + "item.read.status", "SUCCESS")
+					.timer()
+					.count(),
+				"There should be one item read observation for each read attempt");
+		Assertions.assertEquals(3,
+				meterRegistry.get(BatchMetrics.METRICS_PREFIX + "item.process")
+					.tag(BatchMetrics.METRICS_PREFIX + "item.process.status", "SUCCESS")
+					.timer()
+					.count());
+		Assertions.assertNull(meterRegistry.find(BatchMetrics.METRICS_PREFIX + "chunk.read").timer());
+	}
+
 	private static void assertMetrics(SimpleMeterRegistry meterRegistry) {
 		Assertions.assertEquals(12, meterRegistry.getMeters().size());
 		assertDoesNotThrow(
-				() -> meterRegistry.get(BatchMetrics.METRICS_PREFIX + "item.read")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.read.job.name", "job")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.read.step.name", "step")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.read.status", "SUCCESS")
+				() -> meterRegistry.get(BatchMetrics.METRICS_PREFIX + "chunk.read")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.read.job.name", "job")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.read.step.name", "step")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.read.status", "SUCCESS")
 					.timer(),
-				"There should be a meter of type TIMER named spring.batch.item.read registered in the meter registry");
+				"There should be a meter of type TIMER named spring.batch.chunk.read registered in the meter registry");
 		assertDoesNotThrow(
-				() -> meterRegistry.get(BatchMetrics.METRICS_PREFIX + "item.process")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.process.job.name", "job")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.process.step.name", "step")
-					.tag(BatchMetrics.METRICS_PREFIX + "item.process.status", "SUCCESS")
+				() -> meterRegistry.get(BatchMetrics.METRICS_PREFIX + "chunk.process")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.process.job.name", "job")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.process.step.name", "step")
+					.tag(BatchMetrics.METRICS_PREFIX + "chunk.process.status", "SUCCESS")
 					.timer(),
-				"There should be a meter of type TIMER named spring.batch.item.process registered in the meter registry");
+				"There should be a meter of type TIMER named spring.batch.chunk.process registered in the meter registry");
 		assertDoesNotThrow(
 				() -> meterRegistry.get(BatchMetrics.METRICS_PREFIX + "chunk.write")
 					.tag(BatchMetrics.METRICS_PREFIX + "chunk.write.job.name", "job")
@@ -15,16 +15,29 @@
  */
 package org.springframework.batch.core.step.item;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.step.FatalStepExecutionException;
@@ -33,17 +46,23 @@ import org.springframework.batch.core.step.builder.ChunkOrientedStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.skip.NeverSkipItemSkipPolicy;
 import org.springframework.batch.core.step.skip.NonSkippableProcessException;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ChunkAwareItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemWriter;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
 import org.springframework.core.retry.RetryPolicy;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -136,6 +155,322 @@ public class ChunkOrientedStepTests {
 		verify(reader, times(6)).read();
 	}
 
+	@Test
+	void testConcurrencyLimitInConcurrentMode() throws Exception {
+		// given
+		AtomicInteger inFlightItems = new AtomicInteger();
+		AtomicInteger maxInFlightItems = new AtomicInteger();
+		ItemProcessor<Integer, Integer> processor = item -> {
+			maxInFlightItems.accumulateAndGet(inFlightItems.incrementAndGet(), Math::max);
+			Thread.sleep(5);
+			inFlightItems.decrementAndGet();
+			return item;
+		};
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(10)
+			.reader(new ListItemReader<>(IntStream.rangeClosed(1, 20).boxed().toList()))
+			.processor(processor)
+			.writer(writer)
+			.taskExecutor(new SimpleAsyncTaskExecutor())
+			.concurrencyLimit(2)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(IntStream.rangeClosed(1, 20).boxed().toList(), writer.getWrittenItems());
+		Assertions.assertTrue(maxInFlightItems.get() <= 2);
+	}
+
+	@Test
+	void testCompletionOrderInConcurrentMode() throws Exception {
+		// given
+		// item 1 is only processed once the processing tasks of items 2 to 5 are complete
+		CountDownLatch otherItemsProcessed = new CountDownLatch(4);
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor() {
+			@Override
+			protected void doExecute(Runnable task) {
+				super.doExecute(() -> {
+					try {
+						task.run();
+					}
+					finally {
+						otherItemsProcessed.countDown();
+					}
+				});
+			}
+		};
+		ItemProcessor<Integer, Integer> processor = item -> {
+			if (item == 1) {
+				assertTrue(otherItemsProcessed.await(5, TimeUnit.SECONDS));
+			}
+			return item;
+		};
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(5)
+			.reader(new ListItemReader<>(List.of(1, 2, 3, 4, 5)))
+			.processor(processor)
+			.writer(writer)
+			.taskExecutor(taskExecutor)
+			.preserveItemOrder(false)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(5, writer.getWrittenItems().size());
+		assertEquals(1, writer.getWrittenItems().get(4));
+	}
+
+	@Test
+	void testConcurrentExecutionsOfTheSameStep() throws Exception {
+		// given
+		Queue<Integer> items = new ConcurrentLinkedQueue<>(IntStream.rangeClosed(1, 100).boxed().toList());
+		List<Integer> writtenItems = new CopyOnWriteArrayList<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(3)
+			.reader(items::poll)
+			.writer(chunk -> writtenItems.addAll(chunk.getItems()))
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		List<StepExecution> stepExecutions = IntStream.rangeClosed(1, 4)
+			.mapToObj(id -> new StepExecution(id, "step", jobExecution))
+			.toList();
+
+		// when
+		List<Thread> threads = stepExecutions.stream().map(stepExecution -> new Thread(() -> {
+			try {
+				step.execute(stepExecution);
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		})).toList();
+		threads.forEach(Thread::start);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// then
+		for (StepExecution stepExecution : stepExecutions) {
+			assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		}
+		assertEquals(100, stepExecutions.stream().mapToLong(StepExecution::getWriteCount).sum());
+		assertEquals(IntStream.rangeClosed(1, 100).boxed().toList(), writtenItems.stream().sorted().toList());
+	}
+
+	@Test
+	void testAdaptiveChunkSize() throws Exception {
+		// given
+		List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(8)
+			.reader(new ListItemReader<>(IntStream.rangeClosed(1, 20).boxed().toList()))
+			.writer(chunk -> chunkSizes.add(chunk.size()))
+			// every chunk takes longer than the target duration
+			.adaptiveChunkSizePolicy(new AdaptiveChunkSizePolicy(2, 8, Duration.ofNanos(1)))
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of(8, 4, 2, 2, 2, 2), chunkSizes);
+		assertEquals(2, stepExecution.getExecutionContext().getInt(ChunkOrientedStep.CHUNK_SIZE_KEY));
+	}
+
+	@Test
+	void testAdaptiveChunkSizeOnRestart() throws Exception {
+		// given
+		List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(8)
+			.reader(new ListItemReader<>(IntStream.rangeClosed(1, 20).boxed().toList()))
+			.writer(chunk -> chunkSizes.add(chunk.size()))
+			// every chunk is faster than the target duration
+			.adaptiveChunkSizePolicy(new AdaptiveChunkSizePolicy(1, 10, Duration.ofHours(1)))
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+		stepExecution.getExecutionContext().putInt(ChunkOrientedStep.CHUNK_SIZE_KEY, 3);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of(3, 6, 10, 1), chunkSizes);
+		assertEquals(10, stepExecution.getExecutionContext().getInt(ChunkOrientedStep.CHUNK_SIZE_KEY));
+	}
+
+	@Test
+	void testPipelinedMode() throws Exception {
+		// given
+		List<Integer> items = IntStream.rangeClosed(1, 10).boxed().toList();
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<Integer, Integer>chunk(3)
+			.reader(new ListItemReader<>(items))
+			.processor(item -> item % 5 == 0 ? null : item)
+			.writer(writer)
+			.pipelined(2)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED, stepExecution.getExitStatus());
+		assertEquals(List.of(1, 2, 3, 4, 6, 7, 8, 9), writer.getWrittenItems());
+		assertEquals(10, stepExecution.getReadCount());
+		assertEquals(2, stepExecution.getFilterCount());
+		assertEquals(8, stepExecution.getWriteCount());
+		assertEquals(4, stepExecution.getCommitCount());
+	}
+
+	@Test
+	void testPipelinedModeSavesReaderStateOfCommittedChunksOnly() throws Exception {
+		// given
+		CountDownLatch readAhead = new CountDownLatch(9);
+		AbstractItemCountingItemStreamItemReader<Integer> reader = new AbstractItemCountingItemStreamItemReader<>() {
+
+			private final Iterator<Integer> iterator = IntStream.rangeClosed(1, 20).iterator();
+
+			@Override
+			protected @Nullable Integer doRead() {
+				readAhead.countDown();
+				return this.iterator.hasNext() ? this.iterator.next() : null;
+			}
+
+			@Override
+			protected void doOpen() {
+			}
+
+			@Override
+			protected void doClose() {
+			}
+		};
+		reader.setName("reader");
+		AtomicInteger writes = new AtomicInteger();
+		ItemWriter<Integer> writer = chunk -> {
+			if (writes.incrementAndGet() == 2) {
+				throw new Exception("Planned write failure");
+			}
+			// let the reader read ahead of the chunk being written
+			readAhead.await(5, TimeUnit.SECONDS);
+		};
+		ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>("step", 3, reader, writer,
+				new ResourcelessJobRepository());
+		step.setPipelineDepth(2);
+		step.afterPropertiesSet();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(1, stepExecution.getCommitCount());
+		assertEquals(3, stepExecution.getExecutionContext().getInt("reader.read.count"));
+	}
+
+	@Test
+	void testPipelinedModeWithErrorInProcessor() {
+		// given
+		ChunkOrientedStep<String, String> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<String, String>chunk(2)
+			.reader(new ListItemReader<>(List.of("item1", "item2", "item3")))
+			.processor(item -> {
+				throw new OutOfMemoryError("Simulated OOM");
+			})
+			.writer(items -> {
+			})
+			.pipelined(2)
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> step.execute(stepExecution));
+
+		// then
+		assertEquals(ExitStatus.FAILED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertInstanceOf(OutOfMemoryError.class, stepExecution.getFailureExceptions().get(0));
+		assertEquals(1, stepExecution.getRollbackCount());
+	}
+
+	@Test
+	void testPipelinedModeStoppedBeforeFirstChunk() {
+		// given
+		List<Runnable> readerTasks = new CopyOnWriteArrayList<>();
+		TaskExecutor delayingTaskExecutor = task -> {
+			readerTasks.add(task);
+			new SimpleAsyncTaskExecutor().execute(() -> {
+				// start reading once the step has stopped consuming chunks
+				try {
+					Thread.sleep(100);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				task.run();
+			});
+		};
+		ChunkOrientedStep<String, String> step = new StepBuilder("step", new ResourcelessJobRepository())
+			.<String, String>chunk(2)
+			.reader(new ListItemReader<>(List.of("item1", "item2", "item3")))
+			.writer(items -> {
+			})
+			.pipelined(2)
+			.pipelineTaskExecutor(delayingTaskExecutor)
+			.listener(new StepExecutionListener() {
+				@Override
+				public void beforeStep(StepExecution stepExecution) {
+					stepExecution.setTerminateOnly();
+				}
+			})
+			.build();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> step.execute(stepExecution));
+
+		// then
+		assertEquals(BatchStatus.STOPPED, stepExecution.getStatus());
+		assertEquals(1, readerTasks.size());
+		assertEquals(0, stepExecution.getWriteCount());
+	}
+
+	@Test
+	void testPipelinedModeCannotBeCombinedWithConcurrentMode() {
+		// given
+		ChunkOrientedStep<String, String> step = new ChunkOrientedStep<>("step", 2,
+				new ListItemReader<>(List.of("foo")), chunk -> {
+				}, new ResourcelessJobRepository());
+		step.setPipelineDepth(1);
+		step.setTaskExecutor(new SimpleAsyncTaskExecutor());
+
+		// when & then
+		assertThrows(IllegalStateException.class, step::afterPropertiesSet);
+	}
+
 	@Test
 	void testRetryLimitWithoutRetryDoesNotRetryErrors() throws Exception {
 		// Given: ItemProcessor that throws OutOfMemoryError
@@ -319,4 +654,193 @@ public class ChunkOrientedStepTests {
 		assertEquals(1, stepExecution.getSkipCount());
 	}
 
+	@Test
+	void testBisectionChunkScanStrategy() throws Exception {
+		// given
+		class SkippableException extends RuntimeException {
+
+		}
+		List<Integer> items = IntStream.rangeClosed(1, 16).boxed().toList();
+		List<Integer> scanWriteSizes = new CopyOnWriteArrayList<>();
+		ListItemWriter<Integer> writer = new ListItemWriter<>() {
+			@Override
+			public void write(Chunk<? extends Integer> chunk) throws Exception {
+				if (chunk.size() < items.size()) {
+					scanWriteSizes.add(chunk.size());
+				}
+				if (chunk.getItems().contains(7)) {
+					throw new SkippableException();
+				}
+				super.write(chunk);
+			}
+		};
+
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", jobRepository).<Integer, Integer>chunk(16)
+			.reader(new ListItemReader<>(items))
+			.writer(writer)
+			.faultTolerant()
+			.retry(SkippableException.class)
+			.retryLimit(1)
+			.skip(SkippableException.class)
+			.skipLimit(1)
+			.chunkScanStrategy(ChunkScanStrategy.BISECTION)
+			.build();
+
+		JobInstance jobInstance = new JobInstance(1L, "job");
+		JobExecution jobExecution = new JobExecution(1L, jobInstance, new JobParameters());
+		StepExecution stepExecution = new StepExecution(1L, "step", jobExecution);
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(1, stepExecution.getWriteSkipCount());
+		assertEquals(15, stepExecution.getWriteCount());
+		assertEquals(List.of(8, 4, 4, 2, 2, 1, 1, 8), scanWriteSizes);
+		assertEquals(items.stream().filter(item -> item != 7).toList(),
+				writer.getWrittenItems().stream().sorted().toList());
+	}
+
+	@Test
+	void testChunkAwareItemProcessorIsCalledOncePerChunk() throws Exception {
+		// given
+		List<Integer> chunkSizes = new CopyOnWriteArrayList<>();
+		ChunkAwareItemProcessor<Integer, Integer> processor = new ChunkAwareItemProcessor<>() {
+			@Override
+			public List<@Nullable Integer> process(Chunk<Integer> chunk) {
+				chunkSizes.add(chunk.size());
+				return chunk.getItems().stream().map(this::process).toList();
+			}
+
+			@Override
+			public @Nullable Integer process(Integer item) {
+				return item % 3 == 0 ? null : item * 10;
+			}
+		};
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", jobRepository).<Integer, Integer>chunk(4)
+			.reader(new ListItemReader<>(IntStream.rangeClosed(1, 9).boxed().toList()))
+			.processor(processor)
+			.writer(writer)
+			.build();
+		StepExecution stepExecution = new StepExecution(1L, "step",
+				new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters()));
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(List.of(4, 4), chunkSizes);
+		assertEquals(3, stepExecution.getFilterCount());
+		assertEquals(List.of(10, 20, 40, 50, 70, 80), writer.getWrittenItems());
+	}
+
+	@Test
+	void testChunkAwareItemProcessorFallsBackToItemProcessingOnFailure() throws Exception {
+		// given
+		class SkippableException extends RuntimeException {
+
+		}
+		List<Integer> processedItems = new CopyOnWriteArrayList<>();
+		ChunkAwareItemProcessor<Integer, Integer> processor = new ChunkAwareItemProcessor<>() {
+			@Override
+			public List<@Nullable Integer> process(Chunk<Integer> chunk) {
+				return chunk.getItems().stream().map(this::process).toList();
+			}
+
+			@Override
+			public @Nullable Integer process(Integer item) {
+				if (item == 2) {
+					throw new SkippableException();
+				}
+				processedItems.add(item);
+				return item;
+			}
+		};
+		ListItemWriter<Integer> writer = new ListItemWriter<>();
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", jobRepository).<Integer, Integer>chunk(3)
+			.reader(new ListItemReader<>(List.of(1, 2, 3)))
+			.processor(processor)
+			.writer(writer)
+			.faultTolerant()
+			.skip(SkippableException.class)
+			.skipLimit(1)
+			.build();
+		StepExecution stepExecution = new StepExecution(1L, "step",
+				new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters()));
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(1, stepExecution.getProcessSkipCount());
+		assertEquals(List.of(1, 1, 3), processedItems);
+		assertEquals(List.of(1, 3), writer.getWrittenItems());
+	}
+
+	@Test
+	void testItemProcessListenerIsNotifiedOncePerItemWhenChunkAwareItemProcessorFallsBack() throws Exception {
+		// given
+		class SkippableException extends RuntimeException {
+
+		}
+		ChunkAwareItemProcessor<Integer, Integer> processor = new ChunkAwareItemProcessor<>() {
+			@Override
+			public List<@Nullable Integer> process(Chunk<Integer> chunk) {
+				return chunk.getItems().stream().map(this::process).toList();
+			}
+
+			@Override
+			public @Nullable Integer process(Integer item) {
+				if (item == 2) {
+					throw new SkippableException();
+				}
+				return item;
+			}
+		};
+		List<String> events = new CopyOnWriteArrayList<>();
+		ItemProcessListener<Integer, Integer> listener = new ItemProcessListener<>() {
+			@Override
+			public void beforeProcess(Integer item) {
+				events.add("beforeProcess " + item);
+			}
+
+			@Override
+			public void afterProcess(Integer item, @Nullable Integer result) {
+				events.add("afterProcess " + item);
+			}
+
+			@Override
+			public void onProcessError(Integer item, Exception e) {
+				events.add("onProcessError " + item);
+			}
+		};
+		JobRepository jobRepository = new ResourcelessJobRepository();
+		ChunkOrientedStep<Integer, Integer> step = new StepBuilder("step", jobRepository).<Integer, Integer>chunk(3)
+			.reader(new ListItemReader<>(List.of(1, 2, 3)))
+			.processor(processor)
+			.writer(new ListItemWriter<>())
+			.listener(listener)
+			.faultTolerant()
+			.skip(SkippableException.class)
+			.skipLimit(1)
+			.build();
+		StepExecution stepExecution = new StepExecution(1L, "step",
+				new JobExecution(1L, new JobInstance(1L, "job"), new JobParameters()));
+
+		// when
+		step.execute(stepExecution);
+
+		// then
+		assertEquals(ExitStatus.COMPLETED.getExitCode(), stepExecution.getExitStatus().getExitCode());
+		assertEquals(List.of("beforeProcess 1", "beforeProcess 2", "beforeProcess 3", "afterProcess 1",
+				"onProcessError 2", "afterProcess 3"), events);
+	}
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link ItemProcessor} that can also process all the items of a chunk at once, for
+ * example to look up the data needed to enrich the items with a single query or a single
+ * call to a cache instead of one per item.
+ * <p>
+ * Steps that support this contract call {@link #process(Chunk)} once per chunk instead of
+ * {@link #process(Object)} once per item. If processing the chunk fails, they fall back
+ * to processing its items one by one with {@link #process(Object)}, so that the failing
+ * item can be retried or skipped on its own. Both methods must therefore produce the same
+ * results.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <I> type of input item
+ * @param <O> type of output item
+ */
+public interface ChunkAwareItemProcessor<I, O> extends ItemProcessor<I, O> {
+
+	/**
+	 * Process the items of the given chunk.
+	 * @param chunk the items to process, never empty
+	 * @return the result of processing each item of the chunk, in the order of the items
+	 * of the chunk. The list must have the same size as the chunk. A {@code null} result
+	 * indicates that processing of the corresponding item should not continue, as for
+	 * {@link #process(Object)}.
+	 * @throws Exception thrown if exception occurs during processing.
+	 */
+	List<@Nullable O> process(Chunk<I> chunk) throws Exception;
+
+}
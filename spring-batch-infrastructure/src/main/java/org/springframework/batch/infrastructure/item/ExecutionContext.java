@@ -16,7 +16,10 @@
 
 package org.springframework.batch.infrastructure.item;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,7 +31,10 @@ import org.jspecify.annotations.Nullable;
 /**
  * Object representing a context for an {@link ItemStream}. It is a thin wrapper for a map
  * that allows optionally for type safety on reads. It also allows for dirty checking by
- * setting a 'dirty' flag whenever any put is called.
+ * setting a 'dirty' flag whenever any put is called. The keys that were changed or
+ * removed since the dirty flag was last cleared are available through
+ * {@link #getDirtyKeys()}, so that a persistence layer can skip clean contexts or only
+ * write the entries that changed.
  * <p>
  * Non-transient entries should be serializable, otherwise a custom serializer should be
  * used. Note that putting <code>null</code> value is equivalent to removing the entry for
@@ -45,6 +51,8 @@ public class ExecutionContext implements Serializable {
 
 	private final Map<String, Object> map;
 
+	private transient Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Default constructor. Initializes a new execution context with an empty internal
 	 * map.
@@ -125,14 +133,20 @@ public class ExecutionContext implements Serializable {
 	public void put(String key, @Nullable Object value) {
 		if (value != null) {
 			Object result = this.map.put(key, value);
-			this.dirty = this.dirty || result == null || !result.equals(value);
+			if (result == null || !result.equals(value)) {
+				markDirty(key);
+			}
 		}
 		else {
-			Object result = this.map.remove(key);
-			this.dirty = this.dirty || result != null;
+			remove(key);
 		}
 	}
 
+	private void markDirty(String key) {
+		this.dirtyKeys.add(key);
+		this.dirty = true;
+	}
+
 	/**
 	 * Indicates if context has been changed with a "put" operation since the dirty flag
 	 * was last cleared. Note that the last time the flag was cleared might correspond to
@@ -145,6 +159,20 @@ public class ExecutionContext implements Serializable {
 		return this.dirty;
 	}
 
+	/**
+	 * Return the keys that were added, changed or removed since the dirty flag was last
+	 * cleared. A key that is part of the returned set but not contained in this context
+	 * anymore has been removed. Note that dirty keys are not serialized with the context,
+	 * so a deserialized context that is dirty has no dirty keys, in which case the whole
+	 * context should be considered as changed.
+	 * @return an unmodifiable view of the keys changed since the dirty flag was last
+	 * cleared
+	 * @since 6.0.2
+	 */
+	public Set<String> getDirtyKeys() {
+		return Collections.unmodifiableSet(this.dirtyKeys);
+	}
+
 	/**
 	 * Typesafe Getter for the String represented by the provided key.
 	 * @param key The key to get a value for
@@ -328,10 +356,23 @@ public class ExecutionContext implements Serializable {
 	}
 
 	/**
-	 * Clears the dirty flag.
+	 * Clears the dirty flag and the set of {@link #getDirtyKeys() dirty keys}.
 	 */
 	public void clearDirtyFlag() {
 		this.dirty = false;
+		this.dirtyKeys.clear();
+	}
+
+	/**
+	 * Sets the dirty flag and adds the given keys to the set of {@link #getDirtyKeys()
+	 * dirty keys}. This can be used to restore the dirty state of a context whose changes
+	 * could not be persisted after its dirty flag was cleared.
+	 * @param keys the keys to mark as changed
+	 * @since 6.0.2
+	 */
+	public void markDirty(Collection<String> keys) {
+		this.dirtyKeys.addAll(keys);
+		this.dirty = true;
 	}
 
 	/**
@@ -371,7 +412,11 @@ public class ExecutionContext implements Serializable {
 	 * @see java.util.Map#remove(Object)
 	 */
 	public @Nullable Object remove(String key) {
-		return this.map.remove(key);
+		Object result = this.map.remove(key);
+		if (result != null) {
+			markDirty(key);
+		}
+		return result;
 	}
 
 	/**
@@ -414,4 +459,9 @@ public class ExecutionContext implements Serializable {
 		return this.map.size();
 	}
 
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.dirtyKeys = ConcurrentHashMap.newKeySet();
+	}
+
 }
@@ -18,6 +18,9 @@ package org.springframework.batch.infrastructure.item.file;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.logging.Log;
@@ -41,6 +44,19 @@ import org.springframework.util.StringUtils;
  * {@link #setLineMapper(LineMapper)}. If an exception is thrown during line mapping it is
  * rethrown as {@link FlatFileParseException} adding information about the problematic
  * line and its line number.
+ * <p>
+ * When the resource is a file read with the default {@link BufferedReaderFactory} and an
+ * encoding where line terminators are encoded as in ASCII (like UTF-8 or ISO-8859-1),
+ * lines are split on the raw bytes of the file, which can be mapped in memory (see
+ * {@link #setMemoryMapped(boolean)}), and only the bytes of each line are decoded. The
+ * byte position of the next line is then saved in the {@link ExecutionContext} along with
+ * the read count, and the reader seeks to that position on restart instead of reading all
+ * the lines before it again. Otherwise, or if {@link #setSeekOnRestart(boolean)} is
+ * disabled, lines are read again up to the restart position.
+ * <p>
+ * Such a file can also be read partially, for example by the partitions of a partitioned
+ * step, by setting the {@link #setStartPosition(long) start} and
+ * {@link #setEndPosition(long) end} byte positions of the range of the file to read.
  *
  * <p>
  * This reader is <b>not</b> thread-safe.
@@ -63,6 +79,10 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	public static final String[] DEFAULT_COMMENT_PREFIXES = new String[] { "#" };
 
+	private static final String READ_POSITION = "read.position";
+
+	private static final String LINE_COUNT = "line.count";
+
 	private RecordSeparatorPolicy recordSeparatorPolicy = new SimpleRecordSeparatorPolicy();
 
 	private @Nullable Resource resource;
@@ -87,6 +107,18 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean seekOnRestart = true;
+
+	private boolean memoryMapped = false;
+
+	private long restartPosition = -1;
+
+	private int restartLineCount;
+
+	private long startPosition = 0;
+
+	private long endPosition = -1;
+
 	/**
 	 * Create a new {@link FlatFileItemReader} with a {@link LineMapper}.
 	 * @param lineMapper to use to map lines to items
@@ -158,13 +190,64 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 	/**
 	 * Factory for the {@link BufferedReader} that will be used to extract lines from the
 	 * file. The default is fine for plain text files, but this is a useful strategy for
-	 * binary files where the standard BufferedReader from java.io is limiting.
+	 * binary files where the standard BufferedReader from java.io is limiting. Setting a
+	 * custom factory disables splitting lines on the raw bytes of files.
 	 * @param bufferedReaderFactory the bufferedReaderFactory to set
 	 */
 	public void setBufferedReaderFactory(BufferedReaderFactory bufferedReaderFactory) {
 		this.bufferedReaderFactory = bufferedReaderFactory;
 	}
 
+	/**
+	 * Whether to save the byte position of the next line and to seek to it on restart,
+	 * when the resource and the encoding allow it. Defaults to {@code true}.
+	 * @param seekOnRestart {@code false} to read lines again up to the restart position
+	 * @since 6.0.2
+	 */
+	public void setSeekOnRestart(boolean seekOnRestart) {
+		this.seekOnRestart = seekOnRestart;
+	}
+
+	/**
+	 * Whether to map the file in memory when its lines are split on raw bytes, instead of
+	 * copying its bytes into a buffer. Defaults to {@code false}. Mapped regions of the
+	 * file are only released when garbage collected, which prevents the file from being
+	 * deleted in the meantime on some platforms (like Windows).
+	 * @param memoryMapped {@code true} to map the file in memory
+	 * @since 6.0.2
+	 */
+	public void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
+	/**
+	 * Set the byte position in the file of the first line to read, which must be the
+	 * start of a line. Lines before this position are ignored, as well as
+	 * {@link #setLinesToSkip(int) lines to skip} unless the position is {@code 0}, and
+	 * line numbers are counted from this position. Reading a range of a file requires the
+	 * resource to be a file read with the default {@link BufferedReaderFactory} and an
+	 * encoding where line terminators are encoded as in ASCII. Defaults to {@code 0}.
+	 * @param startPosition the byte position of the first line to read
+	 * @since 6.0.2
+	 * @see #setEndPosition(long)
+	 */
+	public void setStartPosition(long startPosition) {
+		Assert.isTrue(startPosition >= 0, "The start position must not be negative");
+		this.startPosition = startPosition;
+	}
+
+	/**
+	 * Set the byte position in the file where reading stops: lines starting at or after
+	 * this position are not read, while a record starting before it is read up to its
+	 * end. Defaults to {@code -1}, to read up to the end of the file.
+	 * @param endPosition the byte position where reading stops, exclusive
+	 * @since 6.0.2
+	 * @see #setStartPosition(long)
+	 */
+	public void setEndPosition(long endPosition) {
+		this.endPosition = endPosition;
+	}
+
 	/**
 	 * Setter for comment prefixes. Can be used to ignore header lines as well by using
 	 * e.g. the first couple of column names as a prefix. Defaults to
@@ -236,6 +319,9 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 
 		try {
 			do {
+				if (isEndOfRange()) {
+					return null;
+				}
 				line = reader.readLine();
 				if (line == null) {
 					return null;
@@ -273,11 +359,31 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 	@Override
 	protected void doClose() throws Exception {
 		lineCount = 0;
+		restartPosition = -1;
 		if (reader != null) {
 			reader.close();
 		}
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) {
+		restartPosition = -1;
+		if (seekOnRestart && isSaveState() && executionContext.containsKey(getExecutionContextKey(READ_POSITION))) {
+			restartPosition = executionContext.getLong(getExecutionContextKey(READ_POSITION));
+			restartLineCount = executionContext.getInt(getExecutionContextKey(LINE_COUNT));
+		}
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		super.update(executionContext);
+		if (seekOnRestart && isSaveState() && reader instanceof SeekableByteChannelBufferedReader seekableReader) {
+			executionContext.putLong(getExecutionContextKey(READ_POSITION), seekableReader.getPosition());
+			executionContext.putInt(getExecutionContextKey(LINE_COUNT), lineCount);
+		}
+	}
+
 	@Override
 	protected void doOpen() throws Exception {
 		Assert.notNull(resource, "Input resource must be set");
@@ -300,18 +406,53 @@ public class FlatFileItemReader<T> extends AbstractItemCountingItemStreamItemRea
 			return;
 		}
 
-		reader = bufferedReaderFactory.create(resource, encoding);
-		for (int i = 0; i < linesToSkip; i++) {
-			String line = readLine();
-			if (skippedLinesCallback != null && line != null) {
-				skippedLinesCallback.handleLine(line);
+		reader = createReader(resource);
+		if (startPosition > 0 || endPosition >= 0) {
+			Assert.state(endPosition < 0 || endPosition >= startPosition,
+					"The end position must not be before the start position");
+			if (!(reader instanceof SeekableByteChannelBufferedReader seekableReader)) {
+				throw new IllegalStateException("A range of the input resource can only be read from a file "
+						+ "with the default BufferedReaderFactory and an ASCII compatible encoding: " + resource);
+			}
+			seekableReader.seek(startPosition);
+		}
+		if (startPosition == 0) {
+			for (int i = 0; i < linesToSkip; i++) {
+				String line = readLine();
+				if (skippedLinesCallback != null && line != null) {
+					skippedLinesCallback.handleLine(line);
+				}
 			}
 		}
 		noInput = false;
 	}
 
+	private boolean isEndOfRange() {
+		return endPosition >= 0 && reader instanceof SeekableByteChannelBufferedReader seekableReader
+				&& seekableReader.getPosition() >= endPosition;
+	}
+
+	private BufferedReader createReader(Resource resource) throws IOException {
+		if (bufferedReaderFactory.getClass() == DefaultBufferedReaderFactory.class && resource.isFile()) {
+			Charset charset = Charset.forName(encoding);
+			if (SeekableByteChannelBufferedReader.supports(charset)) {
+				ReadableByteChannel channel = resource.readableChannel();
+				if (channel instanceof SeekableByteChannel seekableByteChannel) {
+					return new SeekableByteChannelBufferedReader(seekableByteChannel, charset, memoryMapped);
+				}
+				channel.close();
+			}
+		}
+		return bufferedReaderFactory.create(resource, encoding);
+	}
+
 	@Override
 	protected void jumpToItem(int itemIndex) throws Exception {
+		if (restartPosition >= 0 && reader instanceof SeekableByteChannelBufferedReader seekableReader) {
+			seekableReader.seek(restartPosition);
+			lineCount = restartLineCount;
+			return;
+		}
 		for (int i = 0; i < itemIndex; i++) {
 			readLine();
 		}
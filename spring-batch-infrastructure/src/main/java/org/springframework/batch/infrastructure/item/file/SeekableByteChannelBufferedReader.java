@@ -0,0 +1,253 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link BufferedReader} extension that reads lines directly from the bytes of a
+ * {@link SeekableByteChannel} and keeps track of the byte position of the next line, so
+ * that reading can later resume from that position with {@link #seek(long)} instead of
+ * reading all the lines before it again.
+ * <p>
+ * Line boundaries are found on raw bytes and only the bytes of each line are decoded.
+ * When memory mapping is enabled and the channel is a {@link FileChannel}, the file is
+ * mapped in windows of {@value #MAPPED_WINDOW_SIZE} bytes instead of being copied into a
+ * buffer, so that bytes are read from the page cache without a system call per buffer.
+ * <p>
+ * Lines are split on {@code \n}, {@code \r} or {@code \r\n}, as with
+ * {@link BufferedReader#readLine()}, before being decoded. This is only correct for
+ * charsets where these characters are encoded on single bytes that cannot be part of
+ * another character, see {@link #supports(Charset)}. Only {@link #readLine()} and
+ * {@link #close()} are supported.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ */
+class SeekableByteChannelBufferedReader extends BufferedReader {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+	private static final byte LF = '\n';
+
+	private static final byte CR = '\r';
+
+	private static final long LF_BYTES = 0x0A0A0A0A0A0A0A0AL;
+
+	private static final long CR_BYTES = 0x0D0D0D0D0D0D0D0DL;
+
+	private static final long LOW_BITS = 0x0101010101010101L;
+
+	private static final long HIGH_BITS = 0x8080808080808080L;
+
+	private final SeekableByteChannel channel;
+
+	private final Charset charset;
+
+	private final @Nullable FileChannel mappedChannel;
+
+	private final int mappedWindowSize;
+
+	private ByteBuffer buffer = EMPTY_BUFFER;
+
+	private byte[] lineBuffer = new byte[256];
+
+	private long position;
+
+	SeekableByteChannelBufferedReader(SeekableByteChannel channel, Charset charset) throws IOException {
+		this(channel, charset, false);
+	}
+
+	/**
+	 * Create a new reader starting at the current position of the channel.
+	 * @param channel the channel to read lines from
+	 * @param charset the charset of the text, see {@link #supports(Charset)}
+	 * @param memoryMapped true to map the file in memory if the channel is a
+	 * {@link FileChannel}
+	 * @throws IOException if the position of the channel cannot be read
+	 */
+	SeekableByteChannelBufferedReader(SeekableByteChannel channel, Charset charset, boolean memoryMapped)
+			throws IOException {
+		this(channel, charset, memoryMapped ? MAPPED_WINDOW_SIZE : 0);
+	}
+
+	SeekableByteChannelBufferedReader(SeekableByteChannel channel, Charset charset, int mappedWindowSize)
+			throws IOException {
+		super(Reader.nullReader(), 1);
+		this.channel = channel;
+		this.charset = charset;
+		this.mappedChannel = mappedWindowSize > 0 && channel instanceof FileChannel fileChannel ? fileChannel : null;
+		this.mappedWindowSize = mappedWindowSize;
+		this.position = channel.position();
+	}
+
+	/**
+	 * Check if lines of text encoded with the given charset can be split on bytes.
+	 * @param charset the charset of the text
+	 * @return true if line terminators are encoded as in ASCII
+	 */
+	static boolean supports(Charset charset) {
+		return charset.canEncode() && Arrays.equals("\r\n".getBytes(charset), new byte[] { CR, LF });
+	}
+
+	/**
+	 * @return the byte position of the next line in the channel
+	 */
+	long getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Move to the given byte position, which must be the position of the start of a line.
+	 * @param position the byte position of the next line to read
+	 * @throws IOException if the channel cannot be positioned
+	 */
+	void seek(long position) throws IOException {
+		this.channel.position(position);
+		this.buffer = EMPTY_BUFFER;
+		this.position = position;
+	}
+
+	@Override
+	public @Nullable String readLine() throws IOException {
+		int lineLength = 0;
+		while (this.buffer.hasRemaining() || fill()) {
+			ByteBuffer bytes = this.buffer;
+			int start = bytes.position();
+			int limit = bytes.limit();
+			int end = findLineTerminator(bytes, start, limit);
+			this.position += end - start;
+			if (end == limit) {
+				// no line terminator in the buffer, keep the bytes read so far
+				lineLength = appendToLine(bytes, start, end - start, lineLength);
+				bytes.position(end);
+				continue;
+			}
+			String line;
+			if (lineLength == 0 && bytes.hasArray()) {
+				line = new String(bytes.array(), bytes.arrayOffset() + start, end - start, this.charset);
+			}
+			else {
+				lineLength = appendToLine(bytes, start, end - start, lineLength);
+				line = new String(this.lineBuffer, 0, lineLength, this.charset);
+			}
+			byte terminator = bytes.get(end);
+			bytes.position(end + 1);
+			this.position++;
+			if (terminator == CR) {
+				skipLineFeed();
+			}
+			return line;
+		}
+		// end of input
+		return lineLength == 0 ? null : new String(this.lineBuffer, 0, lineLength, this.charset);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+	/*
+	 * Find the first CR or LF byte, eight bytes at a time: a byte of the word XORed with
+	 * the terminator is zero where they match, and the lowest zero byte of a word is the
+	 * lowest byte set in (v - 0x01..01) & ~v & 0x80..80. Words are read in little endian
+	 * order so that the lowest byte is the first one.
+	 */
+	private static int findLineTerminator(ByteBuffer bytes, int start, int limit) {
+		int index = start;
+		for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+			long word = bytes.getLong(index);
+			long matches = zeroBytes(word ^ LF_BYTES) | zeroBytes(word ^ CR_BYTES);
+			if (matches != 0) {
+				return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+			}
+		}
+		for (; index < limit; index++) {
+			byte next = bytes.get(index);
+			if (next == LF || next == CR) {
+				return index;
+			}
+		}
+		return limit;
+	}
+
+	private static long zeroBytes(long value) {
+		return (value - LOW_BITS) & ~value & HIGH_BITS;
+	}
+
+	private void skipLineFeed() throws IOException {
+		if ((this.buffer.hasRemaining() || fill()) && this.buffer.get(this.buffer.position()) == LF) {
+			this.buffer.position(this.buffer.position() + 1);
+			this.position++;
+		}
+	}
+
+	private int appendToLine(ByteBuffer bytes, int offset, int length, int lineLength) {
+		int newLength = lineLength + length;
+		if (newLength > this.lineBuffer.length) {
+			this.lineBuffer = Arrays.copyOf(this.lineBuffer, Math.max(newLength, 2 * this.lineBuffer.length));
+		}
+		bytes.get(offset, this.lineBuffer, lineLength, length);
+		return newLength;
+	}
+
+	private boolean fill() throws IOException {
+		return this.mappedChannel != null ? map(this.mappedChannel) : readIntoBuffer();
+	}
+
+	private boolean map(FileChannel fileChannel) throws IOException {
+		// the next window starts at the first byte not consumed yet
+		long remaining = fileChannel.size() - this.position;
+		if (remaining <= 0) {
+			this.buffer = EMPTY_BUFFER;
+			return false;
+		}
+		this.buffer = fileChannel
+			.map(FileChannel.MapMode.READ_ONLY, this.position, Math.min(remaining, this.mappedWindowSize))
+			.order(ByteOrder.LITTLE_ENDIAN);
+		return true;
+	}
+
+	private boolean readIntoBuffer() throws IOException {
+		if (this.buffer == EMPTY_BUFFER) {
+			this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		this.buffer.clear();
+		int read;
+		do {
+			read = this.channel.read(this.buffer);
+		}
+		while (read == 0);
+		this.buffer.flip();
+		return read > 0;
+	}
+
+}
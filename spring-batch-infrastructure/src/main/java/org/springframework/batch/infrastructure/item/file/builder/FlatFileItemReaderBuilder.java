@@ -80,6 +80,14 @@ public class FlatFileItemReaderBuilder<T> {
 
 	private BufferedReaderFactory bufferedReaderFactory = new DefaultBufferedReaderFactory();
 
+	private boolean seekOnRestart = true;
+
+	private boolean memoryMapped;
+
+	private long startPosition = 0;
+
+	private long endPosition = -1;
+
 	private @Nullable Resource resource;
 
 	private List<String> comments = new ArrayList<>(Arrays.asList(FlatFileItemReader.DEFAULT_COMMENT_PREFIXES));
@@ -216,6 +224,54 @@ public class FlatFileItemReaderBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * Configure if the reader should save the byte position of the next line and seek to
+	 * it on restart, when the resource and the encoding allow it.
+	 * @param seekOnRestart defaults to true
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setSeekOnRestart(boolean)
+	 */
+	public FlatFileItemReaderBuilder<T> seekOnRestart(boolean seekOnRestart) {
+		this.seekOnRestart = seekOnRestart;
+		return this;
+	}
+
+	/**
+	 * Configure if the reader should map the input file in memory when it splits lines on
+	 * the raw bytes of the file.
+	 * @param memoryMapped defaults to false
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setMemoryMapped(boolean)
+	 */
+	public FlatFileItemReaderBuilder<T> memoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+		return this;
+	}
+
+	/**
+	 * Configure the byte position of the first line to read, to read a range of the input
+	 * file.
+	 * @param startPosition the byte position of the first line to read, defaults to 0
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setStartPosition(long)
+	 */
+	public FlatFileItemReaderBuilder<T> startPosition(long startPosition) {
+		this.startPosition = startPosition;
+		return this;
+	}
+
+	/**
+	 * Configure the byte position where reading stops, to read a range of the input file.
+	 * @param endPosition the byte position where reading stops, exclusive. Defaults to
+	 * -1, to read up to the end of the file.
+	 * @return The current instance of the builder.
+	 * @see FlatFileItemReader#setEndPosition(long)
+	 */
+	public FlatFileItemReaderBuilder<T> endPosition(long endPosition) {
+		this.endPosition = endPosition;
+		return this;
+	}
+
 	/**
 	 * The {@link Resource} to be used as input.
 	 * @param resource the input to the reader.
@@ -555,6 +611,10 @@ public class FlatFileItemReaderBuilder<T> {
 		}
 		reader.setRecordSeparatorPolicy(this.recordSeparatorPolicy);
 		reader.setBufferedReaderFactory(this.bufferedReaderFactory);
+		reader.setSeekOnRestart(this.seekOnRestart);
+		reader.setMemoryMapped(this.memoryMapped);
+		reader.setStartPosition(this.startPosition);
+		reader.setEndPosition(this.endPosition);
 		reader.setMaxItemCount(this.maxItemCount);
 		reader.setCurrentItemCount(this.currentItemCount);
 		reader.setSaveState(this.saveState);
@@ -584,6 +644,8 @@ public class FlatFileItemReaderBuilder<T> {
 
 		private boolean strict = true;
 
+		private boolean reuseFieldSet;
+
 		protected DelimitedBuilder(FlatFileItemReaderBuilder<T> parent) {
 			this.parent = parent;
 		}
@@ -670,6 +732,20 @@ public class FlatFileItemReaderBuilder<T> {
 			return this;
 		}
 
+		/**
+		 * Reuse the {@link FieldSet} returned for each line tokenized by the same thread.
+		 * The field set must then not be kept beyond the mapping of its line. Defaults to
+		 * false.
+		 * @param reuseFieldSet true to reuse field sets
+		 * @return The instance of the builder for chaining.
+		 * @since 6.0.2
+		 * @see DelimitedLineTokenizer#setReuseFieldSet(boolean)
+		 */
+		public DelimitedBuilder<T> reuseFieldSet(boolean reuseFieldSet) {
+			this.reuseFieldSet = reuseFieldSet;
+			return this;
+		}
+
 		/**
 		 * Returns a {@link DelimitedLineTokenizer}
 		 * @return {@link DelimitedLineTokenizer}
@@ -706,6 +782,7 @@ public class FlatFileItemReaderBuilder<T> {
 
 			tokenizer.setFieldSetFactory(this.fieldSetFactory);
 			tokenizer.setStrict(this.strict);
+			tokenizer.setReuseFieldSet(this.reuseFieldSet);
 
 			try {
 				tokenizer.afterPropertiesSet();
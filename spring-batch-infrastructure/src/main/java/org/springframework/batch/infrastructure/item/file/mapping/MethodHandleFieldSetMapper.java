@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link FieldSetMapper} implementation that maps the fields of a {@link FieldSet} to the
+ * properties of a Java bean or to the components of a Java record, resolving the mapping
+ * once when the mapper is created instead of for every mapped line.
+ * <p>
+ * The names of the fields, in the order of the fields in the {@link FieldSet} (typically
+ * the names configured on the line tokenizer), are matched to the writable properties of
+ * the bean, or to the components of the record, when the mapper is created. A field name
+ * matches a bean property with the same name or, if there is no such property, the only
+ * property with the same name when case and underscores are ignored (for example,
+ * {@code ITEM_ID} matches {@code itemId}). Record components must have the same name as
+ * their field. Fields that match no property or component are rejected. Nested property
+ * paths, prototype beans and property editors are not supported, see
+ * {@link BeanWrapperFieldSetMapper} and {@link RecordFieldSetMapper} for these cases.
+ * <p>
+ * A converter is also resolved for each field when the mapper is created, and the target
+ * is populated through method handles on its setters or on its canonical constructor.
+ * Values are converted with a {@link ConversionService}. When the default conversion
+ * service is used, numbers are parsed directly with the same rules. Bean property values
+ * are trimmed before conversion (as with {@link BeanWrapperFieldSetMapper}), record
+ * component values are not (as with {@link RecordFieldSetMapper}).
+ * <p>
+ * This mapper is thread-safe.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <T> type of mapped items
+ */
+public class MethodHandleFieldSetMapper<T> implements FieldSetMapper<T> {
+
+	private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<T> targetType;
+
+	private final int fieldCount;
+
+	private final boolean record;
+
+	private final MethodHandle constructor;
+
+	private final Target[] targets;
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper} converting values with a
+	 * {@link DefaultConversionService}.
+	 * @param targetType type of mapped items, a Java bean with a default constructor or a
+	 * Java record
+	 * @param names names of the fields in the order of the fields in the mapped
+	 * {@link FieldSet}
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType, String... names) {
+		this(targetType, names, new DefaultConversionService(), true);
+	}
+
+	/**
+	 * Create a new {@link MethodHandleFieldSetMapper}.
+	 * @param targetType type of mapped items, a Java bean with a default constructor or a
+	 * Java record
+	 * @param names names of the fields in the order of the fields in the mapped
+	 * {@link FieldSet}
+	 * @param conversionService service to use to convert raw data to typed fields
+	 */
+	public MethodHandleFieldSetMapper(Class<T> targetType, String[] names, ConversionService conversionService) {
+		this(targetType, names, conversionService, false);
+	}
+
+	private MethodHandleFieldSetMapper(Class<T> targetType, String[] names, ConversionService conversionService,
+			boolean defaultConversion) {
+		Assert.notNull(targetType, "The target type must not be null");
+		Assert.notEmpty(names, "Field names must not be empty");
+		Assert.notNull(conversionService, "The conversion service must not be null");
+		this.targetType = targetType;
+		this.fieldCount = names.length;
+		this.record = targetType.isRecord();
+		this.targets = new Target[names.length];
+		try {
+			if (this.record) {
+				RecordComponent[] components = targetType.getRecordComponents();
+				Assert.isTrue(names.length == components.length,
+						"Fields count must be equal to record components count");
+				Constructor<T> canonicalConstructor = targetType.getDeclaredConstructor(
+						Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+				for (int i = 0; i < names.length; i++) {
+					int component = indexOfComponent(components, names[i]);
+					TypeDescriptor type = new TypeDescriptor(
+							MethodParameter.forExecutable(canonicalConstructor, component));
+					this.targets[i] = new Target(names[i], component, null, type.getType(),
+							createConversion(type, conversionService, defaultConversion));
+				}
+				ReflectionUtils.makeAccessible(canonicalConstructor);
+				this.constructor = MethodHandles.lookup()
+					.unreflectConstructor(canonicalConstructor)
+					.asSpreader(Object[].class, components.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+			}
+			else {
+				List<PropertyDescriptor> properties = new ArrayList<>();
+				for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(targetType)) {
+					if (property.getWriteMethod() != null) {
+						properties.add(property);
+					}
+				}
+				for (int i = 0; i < names.length; i++) {
+					Method setter = findSetter(properties, names[i]);
+					ReflectionUtils.makeAccessible(setter);
+					MethodHandle handle = MethodHandles.lookup().unreflect(setter).asType(SETTER_TYPE);
+					TypeDescriptor type = new TypeDescriptor(MethodParameter.forExecutable(setter, 0));
+					this.targets[i] = new Target(names[i], i, handle, type.getType(),
+							createConversion(type, conversionService, defaultConversion));
+				}
+				Constructor<T> defaultConstructor = ReflectionUtils.accessibleConstructor(targetType);
+				this.constructor = MethodHandles.lookup()
+					.unreflectConstructor(defaultConstructor)
+					.asType(MethodType.methodType(Object.class));
+			}
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Unable to create a mapper for type " + targetType.getName(), e);
+		}
+	}
+
+	/**
+	 * Map the fields of the given {@link FieldSet} to a new instance of the target type.
+	 * @param fieldSet the {@link FieldSet} to map, with its fields in the order of the
+	 * names of this mapper
+	 * @return the mapped object
+	 * @throws IllegalArgumentException if a value cannot be converted to the type of its
+	 * property or record component
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T mapFieldSet(FieldSet fieldSet) {
+		Assert.isTrue(fieldSet.getFieldCount() == this.fieldCount,
+				"Fields count must be equal to the number of field names of the mapper");
+		try {
+			if (this.record) {
+				Object[] args = new Object[this.targets.length];
+				for (int i = 0; i < this.targets.length; i++) {
+					Target target = this.targets[i];
+					Object value = convert(target, fieldSet.readRawString(i));
+					if (value == null) {
+						throw new IllegalArgumentException(
+								String.format("Cannot convert field '%s' to required type '%s'", target.name(),
+										target.type().getName()));
+					}
+					args[target.index()] = value;
+				}
+				return (T) this.constructor.invokeExact(args);
+			}
+			Object item = this.constructor.invokeExact();
+			for (int i = 0; i < this.targets.length; i++) {
+				Target target = this.targets[i];
+				MethodHandle setter = target.setter();
+				Object value = convert(target, fieldSet.readString(i));
+				if (setter == null || (value == null && target.type().isPrimitive())) {
+					throw new IllegalArgumentException(String.format("Cannot convert field '%s' to required type '%s'",
+							target.name(), target.type().getName()));
+				}
+				setter.invokeExact(item, value);
+			}
+			return (T) item;
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalStateException("Unable to map field set to type " + this.targetType.getName(), e);
+		}
+	}
+
+	private static @Nullable Object convert(Target target, @Nullable String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return target.conversion().convert(value);
+		}
+		catch (RuntimeException e) {
+			throw new IllegalArgumentException(
+					String.format("Cannot convert field '%s' with value '%s' to required type '%s'", target.name(),
+							value, target.type().getName()),
+					e);
+		}
+	}
+
+	private static int indexOfComponent(RecordComponent[] components, String name) {
+		for (int i = 0; i < components.length; i++) {
+			if (components[i].getName().equals(name)) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("No record component found for field [" + name + "]");
+	}
+
+	private Method findSetter(List<PropertyDescriptor> properties, String name) {
+		Method match = null;
+		String normalizedName = normalize(name);
+		for (PropertyDescriptor property : properties) {
+			if (property.getName().equals(name)) {
+				return property.getWriteMethod();
+			}
+			if (normalize(property.getName()).equals(normalizedName)) {
+				Assert.isTrue(match == null, "More than one property of type " + this.targetType.getName()
+						+ " matches field [" + name + "]");
+				match = property.getWriteMethod();
+			}
+		}
+		Assert.isTrue(match != null,
+				"No writable property of type " + this.targetType.getName() + " found for field [" + name + "]");
+		return match;
+	}
+
+	private static String normalize(String name) {
+		return name.replace("_", "").toLowerCase(Locale.ROOT);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Conversion createConversion(TypeDescriptor type, ConversionService conversionService,
+			boolean defaultConversion) {
+		Class<?> targetClass = type.getObjectType();
+		if (targetClass == String.class) {
+			return value -> value;
+		}
+		if (defaultConversion && Number.class.isAssignableFrom(targetClass)) {
+			// same as the String to Number converter of the default conversion service
+			Class<? extends Number> numberClass = (Class<? extends Number>) targetClass;
+			return value -> value.isEmpty() ? null : NumberUtils.parseNumber(value, numberClass);
+		}
+		Assert.isTrue(conversionService.canConvert(STRING_TYPE, type),
+				"No converter found from String to " + ClassUtils.getQualifiedName(type.getType()));
+		return value -> conversionService.convert(value, STRING_TYPE, type);
+	}
+
+	/**
+	 * Property or record component populated with a field.
+	 *
+	 * @param name the name of the field
+	 * @param index the index of the record component, or of the field for a bean
+	 * @param setter the setter of the bean property, {@code null} for a record
+	 * @param type the type of the property or record component
+	 * @param conversion the conversion of the field value to the type
+	 */
+	private record Target(String name, int index, @Nullable MethodHandle setter, Class<?> type, Conversion conversion) {
+	}
+
+	/**
+	 * Conversion of a field value to the type of its property or record component.
+	 */
+	private interface Conversion {
+
+		@Nullable Object convert(String value);
+
+	}
+
+}
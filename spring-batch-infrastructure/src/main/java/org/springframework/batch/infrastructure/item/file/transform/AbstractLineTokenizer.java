@@ -72,6 +72,15 @@ public abstract class AbstractLineTokenizer implements LineTokenizer {
 		this.fieldSetFactory = fieldSetFactory;
 	}
 
+	/**
+	 * Provides access to the {@link FieldSetFactory} for subclasses if needed.
+	 * @return the {@link FieldSetFactory} used to create field sets
+	 * @since 6.0.2
+	 */
+	protected FieldSetFactory getFieldSetFactory() {
+		return this.fieldSetFactory;
+	}
+
 	/**
 	 * Setter for column names. Optional, but if set, then all lines must have as many or
 	 * fewer tokens.
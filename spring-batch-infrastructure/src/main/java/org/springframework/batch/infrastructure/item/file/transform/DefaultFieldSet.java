@@ -482,7 +482,7 @@ public class DefaultFieldSet implements FieldSet {
 	@Override
 	public boolean equals(Object object) {
 		if (object instanceof DefaultFieldSet fs) {
-			return Arrays.equals(this.tokens, fs.tokens);
+			return Arrays.equals(this.tokens, fs.getValues());
 		}
 
 		return false;
@@ -71,6 +71,14 @@ public class DefaultFieldSetFactory implements FieldSetFactory {
 		this.numberFormat = numberFormat;
 	}
 
+	@Nullable DateFormat getDateFormat() {
+		return this.dateFormat;
+	}
+
+	@Nullable NumberFormat getNumberFormat() {
+		return this.numberFormat;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
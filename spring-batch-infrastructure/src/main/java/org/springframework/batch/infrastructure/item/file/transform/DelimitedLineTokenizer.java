@@ -16,10 +16,16 @@
 
 package org.springframework.batch.infrastructure.item.file.transform;
 
+import java.text.DateFormat;
+import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -29,6 +35,12 @@ import org.springframework.util.StringUtils;
  * A {@link LineTokenizer} implementation that splits the input String on a configurable
  * delimiter. This implementation also supports the use of an escape character to escape
  * delimiters and line endings.
+ * <p>
+ * Lines are split with a single pass over their characters when the delimiter is a single
+ * character. In that case, the tokenizer can also be configured to
+ * {@link #setReuseFieldSet(boolean) reuse} the {@link FieldSet} it returns: the offsets
+ * of the fields in the line are then kept in a buffer reused for each line tokenized by
+ * the same thread, and the value of a field is only extracted when it is read.
  *
  * @author Rob Harrop
  * @author Dave Syer
@@ -63,7 +75,13 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 	private String escapedQuoteString;
 
-	private final Set<Integer> includedFields = new HashSet<>();
+	private boolean @Nullable [] includedFields;
+
+	private boolean reuseFieldSet;
+
+	private final CharPredicate quotePredicate = this::isQuoteCharacter;
+
+	private final ThreadLocal<ReusableFieldSet> fieldSets = ThreadLocal.withInitial(this::createFieldSet);
 
 	/**
 	 * Create a new instance of the {@link DelimitedLineTokenizer} class for the common
@@ -106,12 +124,48 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 * @param includedFields the included fields to set
 	 */
 	public void setIncludedFields(int... includedFields) {
-		if (!this.includedFields.isEmpty()) {
-			this.includedFields.clear();
+		int max = -1;
+		for (int i : includedFields) {
+			max = Math.max(max, i);
+		}
+		if (max < 0) {
+			this.includedFields = null;
+			return;
 		}
+		boolean[] fields = new boolean[max + 1];
 		for (int i : includedFields) {
-			this.includedFields.add(i);
+			if (i >= 0) {
+				fields[i] = true;
+			}
 		}
+		this.includedFields = fields;
+	}
+
+	/**
+	 * Set whether the {@link FieldSet} returned by {@link #tokenize(String)} is reused
+	 * for the next lines tokenized by the same thread, to avoid creating a new field set
+	 * and extracting the value of each field for every line. Each thread gets its own
+	 * field set, and the value of a field is only extracted from the line when it is
+	 * read. Only applies when the delimiter is a single character and the
+	 * {@link #setFieldSetFactory(FieldSetFactory) field set factory} is a
+	 * {@link DefaultFieldSetFactory}, whose date and number formats are then used. The
+	 * values of a reused field set are unquoted with the {@link #setQuoteCharacter(char)
+	 * quote character}, regardless of {@link #isQuoteCharacter(char)}.
+	 * <p>
+	 * A reused field set is only valid until the next line is tokenized by the same
+	 * thread, so it must not be kept beyond the mapping of its line (for example, it must
+	 * not be used with a {@code PassThroughFieldSetMapper}).
+	 * <p>
+	 * Each thread keeps its reused field set in a {@link ThreadLocal} until the thread
+	 * dies, as the thread local of a tokenizer is not cleared when the tokenizer is no
+	 * longer used. On pooled threads, one field set per tokenizer instance accumulates,
+	 * so tokenizers reusing field sets should be long-lived rather than created per job
+	 * or per step. Defaults to {@code false}.
+	 * @param reuseFieldSet {@code true} to reuse field sets
+	 * @since 6.0.2
+	 */
+	public void setReuseFieldSet(boolean reuseFieldSet) {
+		this.reuseFieldSet = reuseFieldSet;
 	}
 
 	/**
@@ -129,6 +183,32 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		this.escapedQuoteString = String.valueOf(quoteCharacter) + quoteCharacter;
 	}
 
+	@Override
+	public FieldSet tokenize(@Nullable String line) {
+		if (!this.reuseFieldSet || this.delimiter.length() != 1
+				|| getFieldSetFactory().getClass() != DefaultFieldSetFactory.class) {
+			return super.tokenize(line);
+		}
+
+		if (line == null) {
+			line = "";
+		}
+
+		ReusableFieldSet fieldSet = this.fieldSets.get();
+		fieldSet.reset(line, this.names, this.quoteCharacter, this.quoteString, this.escapedQuoteString);
+		split(line, this.delimiter.charAt(0), fieldSet);
+
+		if (this.names.length != 0) {
+			if (!isStrict()) {
+				fieldSet.adjustFieldCount(this.names.length);
+			}
+			else if (fieldSet.getFieldCount() != this.names.length) {
+				throw new IncorrectTokenCountException(this.names.length, fieldSet.getFieldCount(), line);
+			}
+		}
+		return fieldSet;
+	}
+
 	/**
 	 * Yields the tokens resulting from the splitting of the supplied <code>line</code>.
 	 * @param line the line to be tokenized
@@ -139,6 +219,12 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 		List<String> tokens = new ArrayList<>();
 
+		if (delimiter.length() == 1) {
+			split(line, delimiter.charAt(0), (offset, count) -> tokens
+				.add(count == 0 ? "" : substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, offset, count)));
+			return tokens;
+		}
+
 		// line is never null in current implementation
 		// line is checked in parent: AbstractLineTokenizer.tokenize()
 		boolean inQuoted = false;
@@ -164,7 +250,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 					endPosition = (endPosition - delimiter.length()) + 1;
 				}
 
-				if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
+				if (isIncluded(fieldCount)) {
 					String value = substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, lastCut, endPosition);
 					tokens.add(value);
 				}
@@ -172,7 +258,7 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 				fieldCount++;
 
 				if (isEnd && isDelimiter) {
-					if (includedFields.isEmpty() || includedFields.contains(fieldCount)) {
+					if (isIncluded(fieldCount)) {
 						tokens.add("");
 					}
 					fieldCount++;
@@ -189,6 +275,58 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		return tokens;
 	}
 
+	/**
+	 * Split the supplied line on a single character delimiter, passing the offset and
+	 * length of each included field to the given collector. Fields are cut exactly as the
+	 * general algorithm of {@link #doTokenize(String)} would cut them: a delimiter inside
+	 * quotes is not a field boundary, except when it ends the line.
+	 * @param line the line to be tokenized
+	 * @param delimiter the delimiter character
+	 * @param collector the collector of the offsets of the fields
+	 */
+	private void split(String line, char delimiter, FieldCollector collector) {
+		int length = line.length();
+		if (length == 0) {
+			return;
+		}
+		boolean inQuoted = false;
+		int lastCut = 0;
+		int fieldCount = 0;
+		int last = length - 1;
+
+		for (int i = 0; i < last; i++) {
+			char currentChar = line.charAt(i);
+			if (currentChar == delimiter && !inQuoted) {
+				if (isIncluded(fieldCount)) {
+					collector.collect(lastCut, i - lastCut);
+				}
+				fieldCount++;
+				lastCut = i + 1;
+			}
+			else if (isQuoteCharacter(currentChar)) {
+				inQuoted = !inQuoted;
+			}
+		}
+
+		if (line.charAt(last) == delimiter) {
+			if (isIncluded(fieldCount)) {
+				collector.collect(lastCut, last - lastCut);
+			}
+			fieldCount++;
+			if (isIncluded(fieldCount)) {
+				collector.collect(length, 0);
+			}
+		}
+		else if (isIncluded(fieldCount)) {
+			collector.collect(lastCut, length - lastCut);
+		}
+	}
+
+	private boolean isIncluded(int field) {
+		boolean[] fields = this.includedFields;
+		return fields == null || (field < fields.length && fields[field]);
+	}
+
 	/**
 	 * Trim any leading or trailing quotes (and any leading or trailing whitespace before
 	 * or after the quotes) from within the specified character array beginning at the
@@ -203,6 +341,12 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 	 * @see String#trim()
 	 */
 	private String substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String line, int offset, int count) {
+		return substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(line, offset, count, this.quotePredicate,
+				this.quoteString, this.escapedQuoteString);
+	}
+
+	private static String substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(String line, int offset, int count,
+			CharPredicate quoteCharacter, String quoteString, String escapedQuoteString) {
 		int start = offset;
 		int len = count;
 
@@ -218,8 +362,8 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 
 		String value;
 
-		if ((line.length() >= 2) && isQuoteCharacter(line.charAt(start))
-				&& isQuoteCharacter(line.charAt(start + len - 1))) {
+		if ((line.length() >= 2) && quoteCharacter.test(line.charAt(start))
+				&& quoteCharacter.test(line.charAt(start + len - 1))) {
 			int beginIndex = start + 1;
 			int endIndex = len - 2;
 			value = line.substring(beginIndex, beginIndex + endIndex);
@@ -281,4 +425,202 @@ public class DelimitedLineTokenizer extends AbstractLineTokenizer implements Ini
 		Assert.state(StringUtils.hasLength(this.delimiter), "A delimiter is required");
 	}
 
+	private ReusableFieldSet createFieldSet() {
+		DateFormat dateFormat = null;
+		NumberFormat numberFormat = null;
+		if (getFieldSetFactory() instanceof DefaultFieldSetFactory fieldSetFactory) {
+			// formats are not thread-safe, each thread gets its own copy
+			DateFormat factoryDateFormat = fieldSetFactory.getDateFormat();
+			NumberFormat factoryNumberFormat = fieldSetFactory.getNumberFormat();
+			dateFormat = factoryDateFormat != null ? (DateFormat) factoryDateFormat.clone() : null;
+			numberFormat = factoryNumberFormat != null ? (NumberFormat) factoryNumberFormat.clone() : null;
+		}
+		return new ReusableFieldSet(dateFormat, numberFormat);
+	}
+
+	/**
+	 * Test of a character against the quote character.
+	 */
+	private interface CharPredicate {
+
+		boolean test(char c);
+
+	}
+
+	/**
+	 * Collector of the offset and length of the fields of a line.
+	 */
+	private interface FieldCollector {
+
+		void collect(int offset, int count);
+
+	}
+
+	/**
+	 * {@link FieldSet} holding the offsets of the fields of the last tokenized line, and
+	 * extracting the value of a field from the line the first time it is read. This class
+	 * is static and gets the quote settings with each line, so that the field sets kept
+	 * by the threads do not reference the tokenizer.
+	 */
+	private static final class ReusableFieldSet extends DefaultFieldSet implements FieldCollector {
+
+		private String line = "";
+
+		private char quoteCharacter = DEFAULT_QUOTE_CHARACTER;
+
+		private String quoteString = String.valueOf(DEFAULT_QUOTE_CHARACTER);
+
+		private String escapedQuoteString = quoteString + DEFAULT_QUOTE_CHARACTER;
+
+		private final CharPredicate quotePredicate = c -> c == this.quoteCharacter;
+
+		private int[] offsets = new int[16];
+
+		private int[] counts = new int[16];
+
+		private @Nullable String[] values = new String[16];
+
+		private int fieldCount;
+
+		private String[] names = new String[0];
+
+		private Map<String, Integer> nameIndexMap = new HashMap<>();
+
+		ReusableFieldSet(@Nullable DateFormat dateFormat, @Nullable NumberFormat numberFormat) {
+			super(new String[0], dateFormat, numberFormat);
+		}
+
+		void reset(String line, String[] names, char quoteCharacter, String quoteString, String escapedQuoteString) {
+			Arrays.fill(this.values, 0, this.fieldCount, null);
+			this.line = line;
+			this.quoteCharacter = quoteCharacter;
+			this.quoteString = quoteString;
+			this.escapedQuoteString = escapedQuoteString;
+			this.fieldCount = 0;
+			if (names != this.names) {
+				this.names = names;
+				this.nameIndexMap = new HashMap<>(names.length);
+				for (int i = 0; i < names.length; i++) {
+					this.nameIndexMap.put(names[i], i);
+				}
+			}
+		}
+
+		@Override
+		public void collect(int offset, int count) {
+			if (this.fieldCount == this.offsets.length) {
+				int capacity = this.fieldCount * 2;
+				this.offsets = Arrays.copyOf(this.offsets, capacity);
+				this.counts = Arrays.copyOf(this.counts, capacity);
+				this.values = Arrays.copyOf(this.values, capacity);
+			}
+			this.offsets[this.fieldCount] = offset;
+			this.counts[this.fieldCount] = count;
+			this.fieldCount++;
+		}
+
+		/**
+		 * Pad with empty fields or truncate to the given number of fields.
+		 */
+		void adjustFieldCount(int count) {
+			while (this.fieldCount < count) {
+				collect(0, 0);
+			}
+			this.fieldCount = count;
+		}
+
+		@Override
+		public String[] getNames() {
+			if (!hasNames()) {
+				throw new IllegalStateException("Field names are not known");
+			}
+			return this.names.clone();
+		}
+
+		@Override
+		public boolean hasNames() {
+			return this.names.length > 0;
+		}
+
+		@Override
+		public @Nullable String[] getValues() {
+			String[] values = new String[this.fieldCount];
+			for (int i = 0; i < this.fieldCount; i++) {
+				values[i] = readRawString(i);
+			}
+			return values;
+		}
+
+		@Override
+		public String readRawString(int index) {
+			if (index < 0 || index >= this.fieldCount) {
+				throw new ArrayIndexOutOfBoundsException(
+						"Index " + index + " out of bounds for length " + this.fieldCount);
+			}
+			String value = this.values[index];
+			if (value == null) {
+				int count = this.counts[index];
+				value = count == 0 ? "" : substringWithTrimmedWhitespaceAndQuotesIfQuotesPresent(this.line,
+						this.offsets[index], count, this.quotePredicate, this.quoteString, this.escapedQuoteString);
+				this.values[index] = value;
+			}
+			return value;
+		}
+
+		@Override
+		protected String readAndTrim(int index) {
+			return readRawString(index).trim();
+		}
+
+		@Override
+		public int getFieldCount() {
+			return this.fieldCount;
+		}
+
+		@Override
+		protected int indexOf(String name) {
+			if (!hasNames()) {
+				throw new IllegalArgumentException("Cannot access columns by name without meta data");
+			}
+			Integer index = this.nameIndexMap.get(name);
+			if (index != null) {
+				return index;
+			}
+			throw new IllegalArgumentException("Cannot access column [" + name + "] from " + Arrays.asList(this.names));
+		}
+
+		@Override
+		public Properties getProperties() {
+			if (!hasNames()) {
+				throw new IllegalStateException("Cannot create properties without meta data");
+			}
+			Properties props = new Properties();
+			for (int i = 0; i < this.fieldCount; i++) {
+				props.setProperty(this.names[i], readAndTrim(i));
+			}
+			return props;
+		}
+
+		@Override
+		public String toString() {
+			return hasNames() ? getProperties().toString() : Arrays.toString(getValues());
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (object instanceof DefaultFieldSet fs) {
+				return Arrays.equals(getValues(), fs.getValues());
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			// same as DefaultFieldSet, where a field set without fields has a hash code
+			// of 0
+			return this.fieldCount == 0 ? 0 : Arrays.hashCode(getValues());
+		}
+
+	}
+
 }
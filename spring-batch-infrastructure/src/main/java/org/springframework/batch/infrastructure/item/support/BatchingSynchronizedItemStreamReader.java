@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ItemStreamReader} decorator that makes a non-thread-safe reader thread-safe
+ * like {@link SynchronizedItemStreamReader}, but reads items from the delegate in
+ * batches. The thread that finds no item available takes the lock once, reads up to
+ * {@code batchSize} items from the delegate and hands them out to all reading threads
+ * through a lock-free queue. The number of lock acquisitions, and therefore the
+ * contention between threads of a multi-threaded step, drops by up to the batch size.
+ * <p>
+ * Items are not bound to the thread that read them from the delegate, so no item is left
+ * behind when a task executor retires a thread between two chunks. Items are returned in
+ * the order they were read from the delegate, but the items read by one thread are not
+ * contiguous.
+ * <p>
+ * {@link #update(ExecutionContext)} saves the state of the delegate, which includes the
+ * items read in batch but not returned yet. As with {@link SynchronizedItemStreamReader},
+ * a job using this reader is not restartable unless reprocessing or skipping items is
+ * acceptable, and the state of the delegate should not be saved.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <T> type of items
+ */
+public class BatchingSynchronizedItemStreamReader<T> implements ItemStreamReader<T> {
+
+	private final ItemStreamReader<T> delegate;
+
+	private final int batchSize;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Queue<T> items = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean exhausted;
+
+	/**
+	 * Create a new {@link BatchingSynchronizedItemStreamReader}.
+	 * @param delegate the item reader to use as a delegate
+	 * @param batchSize the maximum number of items read from the delegate at once, must
+	 * be greater than 0
+	 */
+	public BatchingSynchronizedItemStreamReader(ItemStreamReader<T> delegate, int batchSize) {
+		Assert.notNull(delegate, "The delegate item reader must not be null");
+		Assert.isTrue(batchSize > 0, "The batch size must be greater than 0");
+		this.delegate = delegate;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the next item read from the delegate, reading the next batch of items if no
+	 * item is available. If the delegate fails while reading a batch, the items read
+	 * before the failure are returned by subsequent calls.
+	 * @return the next item or {@code null} if the delegate is exhausted
+	 */
+	@Override
+	public @Nullable T read() throws Exception {
+		// the flag is read before polling: the last batch is queued before the flag is
+		// set,
+		// so an empty queue only means the end of the data if the flag was already set
+		boolean exhausted = this.exhausted;
+		T item = this.items.poll();
+		if (item != null || exhausted) {
+			return item;
+		}
+		this.lock.lock();
+		try {
+			// another thread might have read a batch while this one was waiting
+			item = this.items.poll();
+			while (item == null && !this.exhausted) {
+				readBatch();
+				item = this.items.poll();
+			}
+			return item;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void readBatch() throws Exception {
+		for (int i = 0; i < this.batchSize; i++) {
+			T item = this.delegate.read();
+			if (item == null) {
+				this.exhausted = true;
+				return;
+			}
+			this.items.add(item);
+		}
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		this.items.clear();
+		this.exhausted = false;
+		this.delegate.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		this.delegate.update(executionContext);
+	}
+
+	@Override
+	public void close() {
+		this.items.clear();
+		this.delegate.close();
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link ItemStreamReader} decorator that reads items ahead of the caller. Items are
+ * read from the delegate by a background task into a bounded buffer, so that the latency
+ * of reading items (like receiving messages or fetching the next page of a query) is
+ * hidden behind the processing of the items already read.
+ * <p>
+ * The state of the delegate is captured right after reading each item, and
+ * {@link #update(ExecutionContext)} saves the state captured with the last item returned
+ * by {@link #read()}, not the state of the delegate which has possibly read further. A
+ * restart therefore resumes right after the last item handed to the caller, as if the
+ * delegate had been used directly. Items that were prefetched but not returned when the
+ * reader is closed are read again on restart.
+ * <p>
+ * The delegate is only used by the background task between
+ * {@link #open(ExecutionContext)} and {@link #close()}, so it does not need to be
+ * thread-safe. This reader itself is <b>not</b> thread-safe and is meant to be used by a
+ * single consumer thread.
+ * <p>
+ * If reading an item fails, the exception (or error) is thrown by the call to
+ * {@link #read()} that would have returned that item, after all items read before it have
+ * been returned. The next call to {@link #read()} resumes reading from the delegate.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <T> type of items
+ */
+public class PrefetchingItemStreamReader<T> implements ItemStreamReader<T> {
+
+	private final ItemReader<T> delegate;
+
+	private final BlockingQueue<Prefetched<T>> buffer;
+
+	private AsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("prefetch-");
+
+	private ExecutionContext lastReturnedState = new ExecutionContext();
+
+	private boolean exhausted;
+
+	private @Nullable Prefetcher prefetcher;
+
+	/**
+	 * Create a new {@link PrefetchingItemStreamReader}.
+	 * @param delegate the item reader to read items from
+	 * @param bufferSize the maximum number of items read ahead of the caller, must be
+	 * greater than 0
+	 */
+	public PrefetchingItemStreamReader(ItemReader<T> delegate, int bufferSize) {
+		Assert.notNull(delegate, "The delegate item reader must not be null");
+		Assert.isTrue(bufferSize > 0, "The buffer size must be greater than 0");
+		this.delegate = delegate;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	/**
+	 * Set the task executor used to read items from the delegate in the background.
+	 * Defaults to a {@link SimpleAsyncTaskExecutor}, which creates a new thread each time
+	 * the reader is opened. A task executor creating virtual threads is a good fit for
+	 * delegates that mostly wait for I/O.
+	 * @param taskExecutor the task executor to use
+	 */
+	public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
+		Assert.notNull(taskExecutor, "The task executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.open(executionContext);
+		}
+		this.lastReturnedState = captureDelegateState();
+		this.exhausted = false;
+		startPrefetching();
+	}
+
+	/**
+	 * Return the next prefetched item, waiting for it to be read if the buffer is empty.
+	 * @return the next item or {@code null} if the delegate is exhausted
+	 * @throws Exception if the delegate failed to read the next item
+	 */
+	@Override
+	public @Nullable T read() throws Exception {
+		if (this.exhausted) {
+			return null;
+		}
+		if (this.prefetcher == null) {
+			// the previous read failed, resume reading from the delegate
+			startPrefetching();
+		}
+		Prefetched<T> prefetched = this.buffer.take();
+		Throwable failure = prefetched.failure();
+		if (failure != null) {
+			stopPrefetching();
+			if (failure instanceof Error error) {
+				throw error;
+			}
+			throw (Exception) failure;
+		}
+		this.lastReturnedState = prefetched.state();
+		if (prefetched.item() == null) {
+			this.exhausted = true;
+		}
+		return prefetched.item();
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		for (Map.Entry<String, Object> entry : this.lastReturnedState.entrySet()) {
+			executionContext.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		stopPrefetching();
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.close();
+		}
+	}
+
+	private void startPrefetching() {
+		Prefetcher prefetcher = new Prefetcher();
+		this.taskExecutor.execute(prefetcher);
+		this.prefetcher = prefetcher;
+	}
+
+	private void stopPrefetching() {
+		Prefetcher prefetcher = this.prefetcher;
+		if (prefetcher == null) {
+			return;
+		}
+		this.prefetcher = null;
+		prefetcher.stop();
+		// unblock the prefetcher if it is waiting for space in the buffer
+		this.buffer.clear();
+		try {
+			prefetcher.done.await();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ItemStreamException("Interrupted while waiting for the prefetching task to stop", e);
+		}
+		this.buffer.clear();
+	}
+
+	private ExecutionContext captureDelegateState() {
+		ExecutionContext state = new ExecutionContext();
+		if (this.delegate instanceof ItemStream itemStream) {
+			itemStream.update(state);
+		}
+		return state;
+	}
+
+	/**
+	 * Task reading items from the delegate into the buffer until the delegate is
+	 * exhausted, fails or the task is stopped.
+	 */
+	private final class Prefetcher implements Runnable {
+
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		private final Lock lock = new ReentrantLock();
+
+		private volatile boolean running = true;
+
+		private @Nullable Thread thread;
+
+		@Override
+		public void run() {
+			setThread(Thread.currentThread());
+			try {
+				while (this.running) {
+					Prefetched<T> prefetched;
+					try {
+						T item = delegate.read();
+						prefetched = new Prefetched<>(item, captureDelegateState(), null);
+					}
+					catch (Throwable e) {
+						// errors are handed over as well, the caller would otherwise wait
+						// forever for the next item
+						if (this.running) {
+							buffer.put(new Prefetched<>(null, new ExecutionContext(), e));
+						}
+						return;
+					}
+					buffer.put(prefetched);
+					if (prefetched.item() == null) {
+						return;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				// the reader is being closed
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				setThread(null);
+				this.done.countDown();
+			}
+		}
+
+		void stop() {
+			this.running = false;
+			this.lock.lock();
+			try {
+				if (this.thread != null) {
+					this.thread.interrupt();
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void setThread(@Nullable Thread thread) {
+			this.lock.lock();
+			try {
+				this.thread = thread;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+	}
+
+	/**
+	 * An item read by the prefetching task along with the state of the delegate right
+	 * after reading it, or the failure to read it.
+	 */
+	private record Prefetched<T>(@Nullable T item, ExecutionContext state, @Nullable Throwable failure) {
+	}
+
+}
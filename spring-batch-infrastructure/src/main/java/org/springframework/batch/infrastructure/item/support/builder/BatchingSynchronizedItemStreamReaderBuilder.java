@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support.builder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.support.BatchingSynchronizedItemStreamReader;
+import org.springframework.util.Assert;
+
+/**
+ * Creates a fully qualified {@link BatchingSynchronizedItemStreamReader}.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <T> type of items
+ */
+public class BatchingSynchronizedItemStreamReaderBuilder<T> {
+
+	private @Nullable ItemStreamReader<T> delegate;
+
+	private int batchSize = 100;
+
+	/**
+	 * The item stream reader to use as a delegate.
+	 * @param delegate the delegate to set
+	 * @return this instance for method chaining
+	 */
+	public BatchingSynchronizedItemStreamReaderBuilder<T> delegate(ItemStreamReader<T> delegate) {
+		this.delegate = delegate;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of items read from the delegate at once. Defaults to 100.
+	 * @param batchSize the batch size
+	 * @return this instance for method chaining
+	 */
+	public BatchingSynchronizedItemStreamReaderBuilder<T> batchSize(int batchSize) {
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns a fully constructed {@link BatchingSynchronizedItemStreamReader}.
+	 * @return a new {@link BatchingSynchronizedItemStreamReader}
+	 */
+	public BatchingSynchronizedItemStreamReader<T> build() {
+		Assert.notNull(this.delegate, "A delegate is required");
+
+		return new BatchingSynchronizedItemStreamReader<>(this.delegate, this.batchSize);
+	}
+
+}
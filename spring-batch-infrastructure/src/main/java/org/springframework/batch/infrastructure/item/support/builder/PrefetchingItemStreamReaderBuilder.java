@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support.builder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.support.PrefetchingItemStreamReader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Creates a fully qualified {@link PrefetchingItemStreamReader}.
+ *
+ * @author Mahmoud Ben Hassine
+ * @since 6.0.2
+ * @param <T> type of items
+ */
+public class PrefetchingItemStreamReaderBuilder<T> {
+
+	private @Nullable ItemReader<T> delegate;
+
+	private int bufferSize = 100;
+
+	private @Nullable AsyncTaskExecutor taskExecutor;
+
+	/**
+	 * The item reader to read items from in the background.
+	 * @param delegate the delegate to set
+	 * @return this instance for method chaining
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> delegate(ItemReader<T> delegate) {
+		this.delegate = delegate;
+
+		return this;
+	}
+
+	/**
+	 * The maximum number of items read ahead of the caller. Defaults to 100.
+	 * @param bufferSize the buffer size
+	 * @return this instance for method chaining
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> bufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+
+		return this;
+	}
+
+	/**
+	 * The task executor used to read items in the background.
+	 * @param taskExecutor the task executor to use
+	 * @return this instance for method chaining
+	 * @see PrefetchingItemStreamReader#setTaskExecutor(AsyncTaskExecutor)
+	 */
+	public PrefetchingItemStreamReaderBuilder<T> taskExecutor(AsyncTaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+
+		return this;
+	}
+
+	/**
+	 * Returns a fully constructed {@link PrefetchingItemStreamReader}.
+	 * @return a new {@link PrefetchingItemStreamReader}
+	 */
+	public PrefetchingItemStreamReader<T> build() {
+		Assert.notNull(this.delegate, "A delegate is required");
+
+		PrefetchingItemStreamReader<T> reader = new PrefetchingItemStreamReader<>(this.delegate, this.bufferSize);
+		if (this.taskExecutor != null) {
+			reader.setTaskExecutor(this.taskExecutor);
+		}
+		return reader;
+	}
+
+}
@@ -19,6 +19,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -106,6 +107,44 @@ class ExecutionContextTests {
 		assertFalse(context.isDirty());
 	}
 
+	@Test
+	void testDirtyKeys() {
+		context.putString("1", "test");
+		context.putLong("2", 2L);
+		context.clearDirtyFlag();
+		assertTrue(context.getDirtyKeys().isEmpty());
+
+		context.putLong("2", 2L); // same value
+		context.putLong("3", 3L);
+		context.putString("1", null);
+		assertEquals(Set.of("1", "3"), context.getDirtyKeys());
+
+		context.clearDirtyFlag();
+		assertTrue(context.getDirtyKeys().isEmpty());
+	}
+
+	@Test
+	void testMarkDirty() {
+		context.putString("1", "test");
+		context.clearDirtyFlag();
+
+		context.markDirty(Set.of("1"));
+		assertTrue(context.isDirty());
+		assertEquals(Set.of("1"), context.getDirtyKeys());
+	}
+
+	@Test
+	void testDirtyWithRemove() {
+		context.putString("1", "test");
+		context.clearDirtyFlag();
+
+		context.remove("2"); // remove a non-existent item
+		assertFalse(context.isDirty());
+		context.remove("1");
+		assertTrue(context.isDirty());
+		assertEquals(Set.of("1"), context.getDirtyKeys());
+	}
+
 	@Test
 	void testContains() {
 		context.putString("1", "testString");
@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,10 +27,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.batch.infrastructure.item.ExecutionContext;
 import org.springframework.batch.infrastructure.item.ItemCountAware;
@@ -509,6 +513,134 @@ class FlatFileItemReaderTests {
 		assertEquals(3, item3.getItemCount());
 	}
 
+	@Test
+	void testRestartSeeksToSavedPosition(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "testLine1\r\ntestLine2\ntestLine3\ntestLine4\n");
+		FlatFileItemReader<String> reader = new FlatFileItemReader<>(new FileSystemResource(file),
+				(line, lineNumber) -> line + ":" + lineNumber);
+		reader.open(executionContext);
+		reader.read();
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+		// same bytes before the saved position but more lines
+		Files.writeString(file, "ab\nc\nd\ne\nf\ng\nh\ni\nj\nk\ntestLine3\ntestLine4\n");
+
+		// when
+		reader.open(executionContext);
+		String item = reader.read();
+		reader.close();
+
+		// then
+		String prefix = ClassUtils.getShortName(FlatFileItemReader.class);
+		assertEquals(21, executionContext.getLong(prefix + ".read.position"));
+		assertEquals(2, executionContext.getInt(prefix + ".line.count"));
+		assertEquals("testLine3:3", item);
+	}
+
+	@Test
+	void testMemoryMappedFile(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\ntestLine1\ntestLine2\r\ntestLine3");
+		reader.setResource(new FileSystemResource(file));
+		reader.setLinesToSkip(1);
+		reader.setMemoryMapped(true);
+		reader.open(executionContext);
+		String first = reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		// when
+		reader.open(executionContext);
+		String second = reader.read();
+		String third = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("testLine1", first);
+		assertEquals("testLine2", second);
+		assertEquals("testLine3", third);
+		assertNull(end);
+	}
+
+	@Test
+	void testRestartWithoutSeekReadsLinesAgain(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "testLine1\ntestLine2\ntestLine3\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setSeekOnRestart(false);
+		reader.open(executionContext);
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		// when
+		reader.open(executionContext);
+		String item = reader.read();
+		reader.close();
+
+		// then
+		assertFalse(executionContext.containsKey(ClassUtils.getShortName(FlatFileItemReader.class) + ".read.position"));
+		assertEquals("testLine2", item);
+	}
+
+	@Test
+	void testReadRange(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "header\ntestLine1\ntestLine2\ntestLine3\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setLinesToSkip(1);
+		reader.setStartPosition(17);
+		reader.setEndPosition(27);
+
+		// when
+		reader.open(executionContext);
+		String item = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("testLine2", item);
+		assertNull(end);
+	}
+
+	@Test
+	void testRestartInsideRange(@TempDir Path tempDir) throws Exception {
+		// given
+		Path file = tempDir.resolve("input.txt");
+		Files.writeString(file, "testLine1\ntestLine2\ntestLine3\ntestLine4\n");
+		reader.setResource(new FileSystemResource(file));
+		reader.setStartPosition(10);
+		reader.setEndPosition(30);
+		reader.open(executionContext);
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		// when
+		reader.open(executionContext);
+		String item = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("testLine3", item);
+		assertNull(end);
+	}
+
+	@Test
+	void testReadRangeOfNonFileResource() {
+		reader.setResource(getInputResource("testLine1\ntestLine2\n"));
+		reader.setStartPosition(10);
+		assertThrows(ItemStreamException.class, () -> reader.open(executionContext));
+	}
+
 	private Resource getInputResource(String input) {
 		return new ByteArrayResource(input.getBytes());
 	}
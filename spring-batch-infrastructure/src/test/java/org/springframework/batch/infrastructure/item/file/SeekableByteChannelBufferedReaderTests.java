@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link SeekableByteChannelBufferedReader}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class SeekableByteChannelBufferedReaderTests {
+
+	@TempDir
+	private Path tempDir;
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testReadLinesWithAllLineTerminators(boolean memoryMapped) throws Exception {
+		// given
+		SeekableByteChannelBufferedReader reader = createReader("a\nb\r\nc\rd\n\ne", StandardCharsets.UTF_8,
+				memoryMapped);
+
+		// when & then
+		assertEquals("a", reader.readLine());
+		assertEquals(2, reader.getPosition());
+		assertEquals("b", reader.readLine());
+		assertEquals(5, reader.getPosition());
+		assertEquals("c", reader.readLine());
+		assertEquals("d", reader.readLine());
+		assertEquals("", reader.readLine());
+		assertEquals("e", reader.readLine());
+		assertEquals(11, reader.getPosition());
+		assertNull(reader.readLine());
+		reader.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testReadLinesLongerThanTheBuffer(boolean memoryMapped) throws Exception {
+		// given
+		String longLine = "é".repeat(100_000);
+		SeekableByteChannelBufferedReader reader = createReader(longLine + "\r\n" + longLine, StandardCharsets.UTF_8,
+				memoryMapped);
+
+		// when & then
+		assertEquals(longLine, reader.readLine());
+		assertEquals(200_002, reader.getPosition());
+		assertEquals(longLine, reader.readLine());
+		assertNull(reader.readLine());
+		reader.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testSeek(boolean memoryMapped) throws Exception {
+		// given
+		SeekableByteChannelBufferedReader reader = createReader("first\nsecond\nthird\n", StandardCharsets.UTF_8,
+				memoryMapped);
+		reader.readLine();
+
+		// when
+		reader.seek(13);
+
+		// then
+		assertEquals("third", reader.readLine());
+		assertEquals(19, reader.getPosition());
+		reader.close();
+	}
+
+	@Test
+	void testReadLinesAcrossMappedWindows() throws Exception {
+		// given
+		Path file = this.tempDir.resolve("input.txt");
+		Files.writeString(file, "first line\r\nsecond\r\n\néé\nlast");
+		SeekableByteChannelBufferedReader reader = new SeekableByteChannelBufferedReader(FileChannel.open(file),
+				StandardCharsets.UTF_8, 7);
+
+		// when & then
+		assertEquals("first line", reader.readLine());
+		assertEquals(12, reader.getPosition());
+		assertEquals("second", reader.readLine());
+		assertEquals(20, reader.getPosition());
+		assertEquals("", reader.readLine());
+		assertEquals("éé", reader.readLine());
+		assertEquals("last", reader.readLine());
+		assertNull(reader.readLine());
+		reader.close();
+	}
+
+	@Test
+	void testSupportedCharsets() {
+		assertTrue(SeekableByteChannelBufferedReader.supports(StandardCharsets.UTF_8));
+		assertTrue(SeekableByteChannelBufferedReader.supports(StandardCharsets.ISO_8859_1));
+		assertFalse(SeekableByteChannelBufferedReader.supports(StandardCharsets.UTF_16));
+		assertFalse(SeekableByteChannelBufferedReader.supports(StandardCharsets.UTF_16LE));
+	}
+
+	private SeekableByteChannelBufferedReader createReader(String content, Charset charset, boolean memoryMapped)
+			throws Exception {
+		Path file = this.tempDir.resolve("input.txt");
+		Files.writeString(file, content, charset);
+		FileChannel channel = FileChannel.open(file);
+		return new SeekableByteChannelBufferedReader(channel, charset, memoryMapped);
+	}
+
+}
@@ -240,6 +240,28 @@ class FlatFileItemReaderBuilderTests {
 		assertNull(item.getThird());
 	}
 
+	@Test
+	void testDelimitedReuseFieldSet() throws Exception {
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(getResource("1,2,3\n4,5,6"))
+			.delimited()
+			.reuseFieldSet(true)
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.build();
+
+		reader.open(new ExecutionContext());
+		Foo first = reader.read();
+		Foo second = reader.read();
+
+		assertEquals(1, first.getFirst());
+		assertEquals("3", first.getThird());
+		assertEquals(4, second.getFirst());
+		assertEquals(5, second.getSecond());
+		assertEquals("6", second.getThird());
+		assertNull(reader.read());
+	}
+
 	@Test
 	public void testDelimitedStrict() {
 		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
@@ -528,6 +550,36 @@ class FlatFileItemReaderBuilderTests {
 		assertEquals(encoding, ReflectionTestUtils.getField(reader, "encoding"));
 	}
 
+	@Test
+	void testSeekOnRestartAndMemoryMapped() {
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(getResource("1,2,3"))
+			.seekOnRestart(false)
+			.memoryMapped(true)
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.build();
+
+		assertEquals(false, ReflectionTestUtils.getField(reader, "seekOnRestart"));
+		assertEquals(true, ReflectionTestUtils.getField(reader, "memoryMapped"));
+	}
+
+	@Test
+	void testRange() {
+		FlatFileItemReader<Foo> reader = new FlatFileItemReaderBuilder<Foo>().name("fooReader")
+			.resource(getResource("1,2,3"))
+			.startPosition(10)
+			.endPosition(20)
+			.delimited()
+			.names("first", "second", "third")
+			.targetType(Foo.class)
+			.build();
+
+		assertEquals(10L, ReflectionTestUtils.getField(reader, "startPosition"));
+		assertEquals(20L, ReflectionTestUtils.getField(reader, "endPosition"));
+	}
+
 	@Test
 	void testCustomEncoding() {
 		String encoding = "UTF-8";
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.file.mapping;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for {@link MethodHandleFieldSetMapper}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class MethodHandleFieldSetMapperTests {
+
+	@Test
+	void testMapBean() {
+		// given
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "ITEM_ID", "quantity",
+				"price", "customer", "shipped");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1", " 2 ", "3.5", " foo ", "true" },
+				new String[] { "ITEM_ID", "quantity", "price", "customer", "shipped" });
+
+		// when
+		Order order = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals(1L, order.getItemId());
+		assertEquals(2, order.getQuantity());
+		assertEquals(new BigDecimal("3.5"), order.getPrice());
+		assertEquals("foo", order.getCustomer());
+		assertEquals(Boolean.TRUE, order.getShipped());
+	}
+
+	@Test
+	void testMapBeanWithEmptyValues() {
+		// given
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "price", "shipped");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "", "" }, new String[] { "price", "shipped" });
+
+		// when
+		Order order = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertNull(order.getPrice());
+		assertNull(order.getShipped());
+	}
+
+	@Test
+	void testMapBeanWithEmptyPrimitiveValue() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "quantity");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "" }, new String[] { "quantity" });
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals("Cannot convert field 'quantity' to required type 'int'", exception.getMessage());
+	}
+
+	@Test
+	void testMapBeanWithInvalidValue() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "quantity");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "two" }, new String[] { "quantity" });
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals("Cannot convert field 'quantity' with value 'two' to required type 'int'", exception.getMessage());
+	}
+
+	@Test
+	void testMapBeanWithCustomConversionService() {
+		// given
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(String.class, Integer.class, value -> value.length());
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class,
+				new String[] { "quantity" }, conversionService);
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "abc" }, new String[] { "quantity" });
+
+		// when
+		Order order = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals(3, order.getQuantity());
+	}
+
+	@Test
+	void testUnknownField() {
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> new MethodHandleFieldSetMapper<>(Order.class, "quantity", "unknown"));
+		assertEquals("No writable property of type " + Order.class.getName() + " found for field [unknown]",
+				exception.getMessage());
+	}
+
+	@Test
+	void testMapRecord() {
+		// given
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class, "name", "id",
+				"tags");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "foo", "1", "a,b" },
+				new String[] { "name", "id", "tags" });
+
+		// when
+		Person person = mapper.mapFieldSet(fieldSet);
+
+		// then
+		assertEquals(new Person(1, "foo", List.of("a", "b")), person);
+	}
+
+	@Test
+	void testMapRecordWithEmptyValue() {
+		MethodHandleFieldSetMapper<Person> mapper = new MethodHandleFieldSetMapper<>(Person.class, "id", "name",
+				"tags");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "", "foo", "a" }, new String[] { "id", "name", "tags" });
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+		assertEquals("Cannot convert field 'id' to required type 'int'", exception.getMessage());
+	}
+
+	@Test
+	void testMapRecordWithMissingComponent() {
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> new MethodHandleFieldSetMapper<>(Person.class, "id", "name"));
+		assertEquals("Fields count must be equal to record components count", exception.getMessage());
+	}
+
+	@Test
+	void testMapFieldSetWhenFieldCountIsIncorrect() {
+		MethodHandleFieldSetMapper<Order> mapper = new MethodHandleFieldSetMapper<>(Order.class, "quantity", "price");
+		FieldSet fieldSet = new DefaultFieldSet(new String[] { "1" }, new String[] { "quantity" });
+		assertThrows(IllegalArgumentException.class, () -> mapper.mapFieldSet(fieldSet));
+	}
+
+	public record Person(int id, String name, List<String> tags) {
+	}
+
+	public static class Order {
+
+		private long itemId;
+
+		private int quantity;
+
+		private BigDecimal price;
+
+		private String customer;
+
+		private Boolean shipped;
+
+		public long getItemId() {
+			return itemId;
+		}
+
+		public void setItemId(long itemId) {
+			this.itemId = itemId;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(int quantity) {
+			this.quantity = quantity;
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public void setPrice(BigDecimal price) {
+			this.price = price;
+		}
+
+		public String getCustomer() {
+			return customer;
+		}
+
+		public void setCustomer(String customer) {
+			this.customer = customer;
+		}
+
+		public Boolean getShipped() {
+			return shipped;
+		}
+
+		public void setShipped(Boolean shipped) {
+			this.shipped = shipped;
+		}
+
+	}
+
+}
@@ -16,15 +16,26 @@
 
 package org.springframework.batch.infrastructure.item.file.transform;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import org.springframework.batch.infrastructure.item.file.transform.AbstractLineTokenizer;
 import org.springframework.batch.infrastructure.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
 import org.springframework.batch.infrastructure.item.file.transform.IncorrectTokenCountException;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DelimitedLineTokenizerTests {
 
@@ -385,4 +396,126 @@ class DelimitedLineTokenizerTests {
 		assertEquals("value2\nvalue2cont", line.readString(1));
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "a,b,c", "a,b,", ",", "", "   ", " a , b ", "\"a,b\",c", "\"a\"\"b\",c", "\"a, b\" , c",
+			"a,\"b,", "\"\",\"\"", "a,,b" })
+	void testReusedFieldSetHasSameValuesAsNewFieldSet(String line) {
+		// given
+		DelimitedLineTokenizer reusingTokenizer = new DelimitedLineTokenizer();
+		reusingTokenizer.setReuseFieldSet(true);
+		reusingTokenizer.tokenize("x,y,z,t");
+
+		// when
+		FieldSet expected = tokenizer.tokenize(line);
+		FieldSet actual = reusingTokenizer.tokenize(line);
+
+		// then
+		assertEquals(expected.getFieldCount(), actual.getFieldCount());
+		assertArrayEquals(expected.getValues(), actual.getValues());
+		for (int i = 0; i < expected.getFieldCount(); i++) {
+			assertEquals(expected.readString(i), actual.readString(i));
+		}
+		assertEquals(expected, actual);
+		assertEquals(expected.hashCode(), actual.hashCode());
+	}
+
+	@Test
+	void testReusedFieldSet() {
+		// given
+		tokenizer.setReuseFieldSet(true);
+		tokenizer.setNames("foo", "bar");
+
+		// when
+		FieldSet first = tokenizer.tokenize("1, a");
+		String firstValue = first.readString("bar");
+		FieldSet second = tokenizer.tokenize("2,\"b,c\"");
+
+		// then
+		assertSame(first, second);
+		assertEquals("a", firstValue);
+		assertEquals(2, second.readInt("foo"));
+		assertEquals("b,c", second.readString("bar"));
+		assertArrayEquals(new String[] { "foo", "bar" }, second.getNames());
+		assertEquals("b,c", second.getProperties().getProperty("bar"));
+	}
+
+	@Test
+	void testReusedFieldSetWithIncludedFieldsAndNonStrictNames() {
+		// given
+		tokenizer.setReuseFieldSet(true);
+		tokenizer.setIncludedFields(1, 3);
+		tokenizer.setNames("foo", "bar");
+		tokenizer.setStrict(false);
+
+		// when
+		FieldSet padded = tokenizer.tokenize("a,b");
+		String[] paddedValues = padded.getValues();
+		FieldSet truncated = tokenizer.tokenize("a,b,c,d,e,f");
+
+		// then
+		assertArrayEquals(new String[] { "b", "" }, paddedValues);
+		assertArrayEquals(new String[] { "b", "d" }, truncated.getValues());
+	}
+
+	@Test
+	void testReusedFieldSetWithIncorrectTokenCount() {
+		tokenizer.setReuseFieldSet(true);
+		tokenizer.setNames("foo", "bar");
+		assertThrows(IncorrectTokenCountException.class, () -> tokenizer.tokenize("a,b,c"));
+	}
+
+	@Test
+	void testReusedFieldSetIsNotSharedBetweenThreads() throws Exception {
+		// given
+		tokenizer.setReuseFieldSet(true);
+		FieldSet fieldSet = tokenizer.tokenize("a,b");
+
+		// when
+		FieldSet otherFieldSet = CompletableFuture.supplyAsync(() -> tokenizer.tokenize("c,d")).get();
+
+		// then
+		assertNotSame(fieldSet, otherFieldSet);
+		assertEquals("a", fieldSet.readString(0));
+		assertEquals("c", otherFieldSet.readString(0));
+	}
+
+	@Test
+	void testReusedFieldSetWithChangedQuoteCharacter() {
+		// given
+		tokenizer.setReuseFieldSet(true);
+		tokenizer.tokenize("\"a,b\",c");
+
+		// when
+		tokenizer.setQuoteCharacter('\'');
+		FieldSet fieldSet = tokenizer.tokenize("'a,b',c");
+
+		// then
+		assertArrayEquals(new String[] { "a,b", "c" }, fieldSet.getValues());
+	}
+
+	@Test
+	void testReusedFieldSetDoesNotReferenceTokenizer() {
+		// given
+		tokenizer.setReuseFieldSet(true);
+
+		// when
+		Class<?> fieldSetType = tokenizer.tokenize("a,b").getClass();
+
+		// then
+		// the field set is kept in a thread local and must not keep the tokenizer alive
+		assertTrue(Modifier.isStatic(fieldSetType.getModifiers()));
+		for (Class<?> type = fieldSetType; type != null; type = type.getSuperclass()) {
+			for (Field field : type.getDeclaredFields()) {
+				assertFalse(field.getType().isAssignableFrom(DelimitedLineTokenizer.class), field.toString());
+			}
+		}
+	}
+
+	@Test
+	void testFieldSetIsNotReusedWithMultiCharacterDelimiter() {
+		tokenizer = new DelimitedLineTokenizer("||");
+		tokenizer.setReuseFieldSet(true);
+		assertNotSame(tokenizer.tokenize("a||b"), tokenizer.tokenize("a||b"));
+	}
+
 }
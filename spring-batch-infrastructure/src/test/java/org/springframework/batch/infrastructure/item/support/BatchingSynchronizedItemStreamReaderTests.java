@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link BatchingSynchronizedItemStreamReader}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class BatchingSynchronizedItemStreamReaderTests {
+
+	@Test
+	void testItemsAreReadFromDelegateInBatches() throws Exception {
+		// given
+		CountingItemReader delegate = new CountingItemReader(5);
+		BatchingSynchronizedItemStreamReader<Integer> reader = new BatchingSynchronizedItemStreamReader<>(delegate, 3);
+
+		// when
+		Integer first = reader.read();
+
+		// then
+		assertEquals(0, first);
+		assertEquals(3, delegate.readCount);
+		assertEquals(1, reader.read());
+		assertEquals(2, reader.read());
+		assertEquals(3, delegate.readCount);
+		assertEquals(3, reader.read());
+		assertEquals(4, reader.read());
+		assertNull(reader.read());
+		assertNull(reader.read());
+		assertEquals(6, delegate.readCount);
+	}
+
+	@Test
+	void testEachItemIsReadOnceByConcurrentThreads() throws Exception {
+		// given
+		int itemCount = 10_000;
+		BatchingSynchronizedItemStreamReader<Integer> reader = new BatchingSynchronizedItemStreamReader<>(
+				new CountingItemReader(itemCount), 50);
+		Set<Integer> items = ConcurrentHashMap.newKeySet();
+		List<Future<Integer>> counts = new ArrayList<>();
+
+		// when
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 8; i++) {
+			counts.add(executorService.submit(() -> {
+				int count = 0;
+				Integer item;
+				while ((item = reader.read()) != null) {
+					items.add(item);
+					count++;
+				}
+				return count;
+			}));
+		}
+		executorService.shutdown();
+
+		// then
+		int total = 0;
+		for (Future<Integer> count : counts) {
+			total += count.get();
+		}
+		assertEquals(itemCount, total);
+		assertEquals(IntStream.range(0, itemCount).boxed().toList(), items.stream().sorted().toList());
+	}
+
+	@Test
+	void testEachItemIsReturnedExactlyOnceUnderContention() throws Exception {
+		int itemCount = 1_000;
+		int threadCount = 32;
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			for (int round = 0; round < 50; round++) {
+				// given
+				BatchingSynchronizedItemStreamReader<Integer> reader = new BatchingSynchronizedItemStreamReader<>(
+						new CountingItemReader(itemCount), 2);
+				AtomicIntegerArray readCounts = new AtomicIntegerArray(itemCount);
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<?>> readers = new ArrayList<>();
+
+				// when
+				for (int i = 0; i < threadCount; i++) {
+					readers.add(executorService.submit(() -> {
+						start.await();
+						Integer item;
+						while ((item = reader.read()) != null) {
+							readCounts.incrementAndGet(item);
+						}
+						return null;
+					}));
+				}
+				start.countDown();
+				for (Future<?> future : readers) {
+					future.get();
+				}
+
+				// then
+				for (int item = 0; item < itemCount; item++) {
+					assertEquals(1, readCounts.get(item), "Item " + item + " in round " + round);
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void testItemsReadBeforeFailureAreReturned() throws Exception {
+		// given
+		ItemStreamReader<String> delegate = mock();
+		when(delegate.read()).thenReturn("a", "b")
+			.thenThrow(new IllegalStateException("Planned failure"))
+			.thenReturn("c", (String) null);
+		BatchingSynchronizedItemStreamReader<String> reader = new BatchingSynchronizedItemStreamReader<>(delegate, 5);
+
+		// when
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+
+		// then
+		assertEquals("Planned failure", exception.getMessage());
+		assertEquals("a", reader.read());
+		assertEquals("b", reader.read());
+		assertEquals("c", reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testOpenResetsReader() throws Exception {
+		// given
+		CountingItemReader delegate = new CountingItemReader(2);
+		BatchingSynchronizedItemStreamReader<Integer> reader = new BatchingSynchronizedItemStreamReader<>(delegate, 10);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		while (reader.read() != null) {
+		}
+		reader.close();
+
+		// when
+		reader.open(executionContext);
+
+		// then
+		assertEquals(0, reader.read());
+		assertTrue(delegate.readCount > 0);
+	}
+
+	@Test
+	void testStreamMethodsAreDelegated() {
+		// given
+		ItemStreamReader<Object> delegate = mock();
+		BatchingSynchronizedItemStreamReader<Object> reader = new BatchingSynchronizedItemStreamReader<>(delegate, 10);
+		ExecutionContext executionContext = new ExecutionContext();
+
+		// when
+		reader.open(executionContext);
+		reader.update(executionContext);
+		reader.close();
+
+		// then
+		verify(delegate).open(executionContext);
+		verify(delegate).update(executionContext);
+		verify(delegate).close();
+	}
+
+	static class CountingItemReader extends AbstractItemStreamItemReader<Integer> {
+
+		private final int itemCount;
+
+		private int readCount;
+
+		CountingItemReader(int itemCount) {
+			this.itemCount = itemCount;
+		}
+
+		@Override
+		public void open(ExecutionContext executionContext) {
+			this.readCount = 0;
+		}
+
+		@Override
+		public @Nullable Integer read() {
+			int item = this.readCount++;
+			return item < this.itemCount ? item : null;
+		}
+
+	}
+
+}
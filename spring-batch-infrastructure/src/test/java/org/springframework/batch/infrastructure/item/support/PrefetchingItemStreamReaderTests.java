@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for {@link PrefetchingItemStreamReader}.
+ *
+ * @author Mahmoud Ben Hassine
+ */
+class PrefetchingItemStreamReaderTests {
+
+	@Test
+	void testRead() throws Exception {
+		// given
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(
+				new CountingListItemReader<>(List.of("a", "b", "c")), 2);
+		reader.open(new ExecutionContext());
+
+		// when
+		String first = reader.read();
+		String second = reader.read();
+		String third = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("a", first);
+		assertEquals("b", second);
+		assertEquals("c", third);
+		assertNull(end);
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testUpdateSavesStateOfLastReturnedItem() throws Exception {
+		// given
+		CountingListItemReader<String> delegate = new CountingListItemReader<>(List.of("a", "b", "c", "d", "e"));
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(delegate, 3);
+		reader.open(new ExecutionContext());
+		reader.read();
+		waitUntil(() -> delegate.counter == 5);
+
+		// when
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.update(executionContext);
+		reader.close();
+
+		// then
+		assertEquals(1, executionContext.getInt("foo.read.count"));
+	}
+
+	@Test
+	void testRestartResumesAfterLastReturnedItem() throws Exception {
+		// given
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(
+				new CountingListItemReader<>(List.of("a", "b", "c", "d")), 2);
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		reader.read();
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		// when
+		reader.open(executionContext);
+		String item = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("c", item);
+	}
+
+	@Test
+	void testReadFailureIsThrownInOrderAndReadingResumes() throws Exception {
+		// given
+		ItemReader<String> delegate = new ItemReader<>() {
+
+			private int count;
+
+			@Override
+			public @Nullable String read() {
+				this.count++;
+				if (this.count == 2) {
+					throw new IllegalStateException("Planned failure");
+				}
+				return this.count > 3 ? null : String.valueOf(this.count);
+			}
+		};
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(delegate, 5);
+		reader.open(new ExecutionContext());
+
+		// when
+		String first = reader.read();
+		Exception exception = assertThrows(IllegalStateException.class, reader::read);
+		String third = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("1", first);
+		assertEquals("Planned failure", exception.getMessage());
+		assertEquals("3", third);
+		assertNull(end);
+	}
+
+	@Test
+	void testReadErrorIsThrown() throws Exception {
+		// given
+		ItemReader<String> delegate = () -> {
+			throw new OutOfMemoryError("Planned error");
+		};
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(delegate, 5);
+		reader.open(new ExecutionContext());
+
+		// when
+		Error error = assertTimeoutPreemptively(Duration.ofSeconds(5),
+				() -> assertThrows(OutOfMemoryError.class, reader::read));
+		reader.close();
+
+		// then
+		assertEquals("Planned error", error.getMessage());
+	}
+
+	@Test
+	void testCloseStopsBlockedPrefetcher() throws Exception {
+		// given
+		ItemReader<String> delegate = () -> "item";
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReader<>(delegate, 1);
+		reader.open(new ExecutionContext());
+		reader.read();
+
+		// when & then
+		assertTimeoutPreemptively(Duration.ofSeconds(5), reader::close);
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+			Thread.sleep(10);
+		}
+	}
+
+	static class CountingListItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+		private final List<T> list;
+
+		private volatile int counter = 0;
+
+		CountingListItemReader(List<T> list) {
+			this.list = list;
+			setName("foo");
+		}
+
+		@Override
+		protected void doOpen() throws Exception {
+			this.counter = 0;
+		}
+
+		@Override
+		protected void doClose() throws Exception {
+			this.counter = 0;
+		}
+
+		@Override
+		protected @Nullable T doRead() throws Exception {
+			if (this.counter >= this.list.size()) {
+				return null;
+			}
+			return this.list.get(this.counter++);
+		}
+
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support.builder;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.support.BatchingSynchronizedItemStreamReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Mahmoud Ben Hassine
+ */
+class BatchingSynchronizedItemStreamReaderBuilderTests {
+
+	@Test
+	void testBuild() throws Exception {
+		// given
+		ItemStreamReader<String> delegate = mock();
+		when(delegate.read()).thenReturn("a", "b", null);
+		BatchingSynchronizedItemStreamReader<String> reader = new BatchingSynchronizedItemStreamReaderBuilder<String>()
+			.delegate(delegate)
+			.batchSize(2)
+			.build();
+
+		// when
+		String item = reader.read();
+
+		// then
+		assertEquals("a", item);
+		verify(delegate, times(2)).read();
+		assertEquals("b", reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	void testBuilderDelegateIsNotNull() {
+		// given
+		BatchingSynchronizedItemStreamReaderBuilder<Object> builder = new BatchingSynchronizedItemStreamReaderBuilder<>();
+
+		// when
+		Exception expectedException = assertThrows(IllegalArgumentException.class, builder::build);
+
+		// then
+		assertEquals("A delegate is required", expectedException.getMessage());
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.batch.infrastructure.item.support.builder;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.support.ListItemReader;
+import org.springframework.batch.infrastructure.item.support.PrefetchingItemStreamReader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Mahmoud Ben Hassine
+ */
+class PrefetchingItemStreamReaderBuilderTests {
+
+	@Test
+	void testBuild() throws Exception {
+		// given
+		PrefetchingItemStreamReader<String> reader = new PrefetchingItemStreamReaderBuilder<String>()
+			.delegate(new ListItemReader<>(List.of("a", "b")))
+			.bufferSize(1)
+			.taskExecutor(new SimpleAsyncTaskExecutor())
+			.build();
+
+		// when
+		reader.open(new ExecutionContext());
+		String first = reader.read();
+		String second = reader.read();
+		String end = reader.read();
+		reader.close();
+
+		// then
+		assertEquals("a", first);
+		assertEquals("b", second);
+		assertNull(end);
+	}
+
+	@Test
+	void testBuilderDelegateIsNotNull() {
+		// given
+		PrefetchingItemStreamReaderBuilder<Object> builder = new PrefetchingItemStreamReaderBuilder<>();
+
+		// when
+		Exception expectedException = assertThrows(IllegalArgumentException.class, builder::build);
+
+		// then
+		assertEquals("A delegate is required", expectedException.getMessage());
+	}
+
+}
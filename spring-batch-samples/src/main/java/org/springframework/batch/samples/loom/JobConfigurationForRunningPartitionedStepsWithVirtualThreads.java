@@ -35,12 +35,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.jdbc.support.JdbcTransactionManager;
 
 /**
- * Configuration class that defines a partitioned step based on a
- * {@link VirtualThreadTaskExecutor}.
+ * Configuration class that defines a partitioned step running each partition on a virtual
+ * thread.
  *
  * @author Mahmoud Ben Hassine
  */
@@ -55,7 +54,7 @@ public class JobConfigurationForRunningPartitionedStepsWithVirtualThreads {
 		return new StepBuilder("managerStep", jobRepository).partitioner(workerStep.getName(), partitioner)
 			.step(workerStep)
 			.gridSize(4)
-			.taskExecutor(new VirtualThreadTaskExecutor("spring-batch-"))
+			.virtualThreads(4)
 			.build();
 	}
 